@@ -46,6 +46,11 @@ public class RetrieverApplication implements IApplication {
 
         options.addOption("a", "analyze-vulnerabilities", true, "Path to the snyk executable.");
 
+        options.addOption("t", "threads", true,
+                "Number of threads to dispatch the rules to per file. By default, every rule runs as a single job. "
+                        + "With several threads, the same model elements are detected, but their order in the "
+                        + "generated models may differ between runs.");
+
         options.addOption("h", "help", false, "Print this help message.");
 
         return options;
@@ -170,7 +175,21 @@ public class RetrieverApplication implements IApplication {
                     cmd.getOptionValue("analyze-vulnerabilities"));
         }
 
-        new RetrieverJob(configuration).execute(new NullProgressMonitor());
+        int ruleThreads = 0;
+        if (cmd.hasOption("threads")) {
+            try {
+                ruleThreads = Integer.parseInt(cmd.getOptionValue("threads")
+                    .strip());
+            } catch (final NumberFormatException e) {
+                ruleThreads = -1;
+            }
+            if (ruleThreads < 1) {
+                System.err.println("Invalid number of threads: " + cmd.getOptionValue("threads"));
+                return -1;
+            }
+        }
+
+        new RetrieverJob(configuration, ruleThreads).execute(new NullProgressMonitor());
 
         return 0;
     }
@@ -20,6 +20,7 @@ import org.palladiosimulator.generator.fluent.system.factory.FluentSystemFactory
 import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.pcm.repository.RepositoryComponent;
 import org.palladiosimulator.retriever.extraction.engine.DockerParser;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
 import org.palladiosimulator.retriever.extraction.engine.PCMInstanceCreator;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
@@ -107,7 +108,8 @@ public class Retriever {
 
         // Parses the docker-compose file to get a mapping between microservice names and
         // components for creating composite components for each microservice
-        final DockerParser dockerParser = new DockerParser(projectPath, (PCMDetector) blackboard.getPCMDetector());
+        final DockerParser dockerParser = new DockerParser(FileIndex.of(blackboard, projectPath),
+                (PCMDetector) blackboard.getPCMDetector());
         final Map<String, Set<CompilationUnit>> mapping = dockerParser.getMapping();
 
         pcm = new PCMInstanceCreator(blackboard).createPCM(mapping);
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.palladiosimulator.retriever.core.configuration.RetrieverBlackboardKeys;
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule;
 import org.palladiosimulator.retriever.mocore.workflow.MoCoReJob;
 import org.palladiosimulator.retriever.services.Analyst;
 import org.palladiosimulator.retriever.services.Discoverer;
@@ -20,7 +21,20 @@ import de.uka.ipd.sdq.workflow.jobs.ParallelJob;
 
 public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
 
+    private final int ruleThreads;
+
     public RetrieverJob(final RetrieverConfiguration configuration) {
+        this(configuration, 0);
+    }
+
+    /**
+     * @param ruleThreads
+     *            the number of threads the rules of each execution step are dispatched to per file,
+     *            or 0 to execute every rule as a single job
+     */
+    public RetrieverJob(final RetrieverConfiguration configuration, final int ruleThreads) {
+        this.ruleThreads = ruleThreads;
+
         super.setBlackboard(new RetrieverBlackboard(new PCMDetector()));
 
         super.addAll(this.createDiscovererJobs(configuration));
@@ -71,16 +85,31 @@ public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
         for (final Collection<Rule> step : configuration.getConfig(Rule.class)
             .getExecutionOrder()) {
             final ParallelJob parentJob = new ParallelJob();
+            final List<Rule> dispatchedRules = new ArrayList<>();
             for (final Rule rule : step) {
                 // Assume only build rules depend on build rules.
                 if (rule.isBuildRule()) {
                     continue;
                 }
+                if (this.ruleThreads > 0) {
+                    dispatchedRules.add(rule);
+                    this.logger.info("Dispatching rule \"" + rule.getName() + "\"");
+                    continue;
+                }
+                if (rule instanceof SelectiveRule) {
+                    // Route only the handled paths to the rule, still as a job of its own.
+                    parentJob.add(new RuleDispatchJob(configuration, this.myBlackboard, List.of(rule), 1));
+                    this.logger.info("Adding selective rule job \"" + rule.getName() + "\"");
+                    continue;
+                }
                 final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = rule.create(configuration,
                         this.myBlackboard);
                 parentJob.add(ruleJob);
                 this.logger.info("Adding rule job \"" + ruleJob.getName() + "\"");
             }
+            if (!dispatchedRules.isEmpty()) {
+                parentJob.add(new RuleDispatchJob(configuration, this.myBlackboard, dispatchedRules, this.ruleThreads));
+            }
             jobs.add(parentJob);
         }
 
@@ -93,16 +122,31 @@ public class RetrieverJob extends AbstractExtendableJob<RetrieverBlackboard> {
         for (final Collection<Rule> step : configuration.getConfig(Rule.class)
             .getExecutionOrder()) {
             final ParallelJob parentJob = new ParallelJob();
+            final List<Rule> dispatchedRules = new ArrayList<>();
             for (final Rule rule : step) {
                 // Assume only build rules depend on build rules.
                 if (!rule.isBuildRule()) {
                     continue;
                 }
+                if (this.ruleThreads > 0) {
+                    dispatchedRules.add(rule);
+                    this.logger.info("Dispatching build rule \"" + rule.getName() + "\"");
+                    continue;
+                }
+                if (rule instanceof SelectiveRule) {
+                    // Route only the handled paths to the rule, still as a job of its own.
+                    parentJob.add(new RuleDispatchJob(configuration, this.myBlackboard, List.of(rule), 1));
+                    this.logger.info("Adding selective build rule job \"" + rule.getName() + "\"");
+                    continue;
+                }
                 final IBlackboardInteractingJob<RetrieverBlackboard> ruleJob = rule.create(configuration,
                         this.myBlackboard);
                 parentJob.add(ruleJob);
                 this.logger.info("Adding build rule job \"" + ruleJob.getName() + "\"");
             }
+            if (!dispatchedRules.isEmpty()) {
+                parentJob.add(new RuleDispatchJob(configuration, this.myBlackboard, dispatchedRules, this.ruleThreads));
+            }
             jobs.add(parentJob);
         }
 
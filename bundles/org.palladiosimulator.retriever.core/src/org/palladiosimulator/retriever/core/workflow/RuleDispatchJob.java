@@ -0,0 +1,161 @@
+package org.palladiosimulator.retriever.core.workflow;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule;
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.Rule;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Executes the rules of one execution step by dispatching every pair of rule and discovered path as
+ * a separate task to a work-stealing pool. The job only finishes once all tasks are done, so the
+ * order between execution steps is kept.
+ *
+ * <p>
+ * Rules marked as {@link SequentialRule} process their paths one after another in a single task.
+ * Rules that provide their own job instead of the default one, e.g. to prepare state in
+ * {@link Rule#create}, execute that job as a single task. Rules marked as {@link SelectiveRule} are
+ * only offered the paths they handle.
+ *
+ * <p>
+ * Detections of concurrent tasks are recorded in the order the tasks happen to run in, so the order
+ * of the detected interfaces, and thus of the generated model elements, may differ between runs.
+ */
+public class RuleDispatchJob extends AbstractBlackboardInteractingJob<RetrieverBlackboard> {
+
+    private static final Logger LOG = Logger.getLogger(RuleDispatchJob.class);
+
+    private final RetrieverConfiguration configuration;
+    private final List<Rule> rules;
+    private final int threads;
+
+    public RuleDispatchJob(final RetrieverConfiguration configuration, final RetrieverBlackboard blackboard,
+            final Collection<Rule> rules, final int threads) {
+        super.setBlackboard(blackboard);
+        this.configuration = Objects.requireNonNull(configuration);
+        this.rules = List.copyOf(rules);
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final RetrieverBlackboard blackboard = this.getBlackboard();
+        final List<Path> paths = new ArrayList<>(blackboard.getDiscoveredPaths());
+
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (final Rule rule : this.rules) {
+            if (providesOwnJob(rule)) {
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    rule.create(this.configuration, blackboard)
+                        .execute(monitor);
+                    return null;
+                }));
+                continue;
+            }
+
+            final List<Path> rulePaths = selectPaths(rule, blackboard, paths);
+            if (rule instanceof SequentialRule) {
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (final Path path : rulePaths) {
+                        rule.processRules(blackboard, path);
+                    }
+                }));
+            } else {
+                for (final Path path : rulePaths) {
+                    tasks.add(ForkJoinTask.adapt(() -> rule.processRules(blackboard, path)));
+                }
+            }
+        }
+
+        LOG.info(String.format("Dispatching %d tasks for %d rules to %d threads", tasks.size(), this.rules.size(),
+                this.threads));
+        final ForkJoinPool pool = new ForkJoinPool(this.threads);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        } catch (final RuntimeException e) {
+            throw new JobFailedException("Executing " + this.getName() + " failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the paths the rule handles, in their original order
+     */
+    private static List<Path> selectPaths(final Rule rule, final RetrieverBlackboard blackboard,
+            final List<Path> paths) {
+        if (!(rule instanceof SelectiveRule selectiveRule)) {
+            return paths;
+        }
+        final Set<String> handledPartitions = selectiveRule.getHandledPartitions();
+        final Set<String> handledFileNames = selectiveRule.getHandledFileNames();
+        if (handledPartitions.isEmpty() && handledFileNames.isEmpty()) {
+            return paths;
+        }
+
+        // Only the keys of the partitions are needed, so lazily parsed files are not loaded.
+        final List<Map<?, ?>> partitions = new ArrayList<>();
+        for (final String partitionId : handledPartitions) {
+            if (blackboard.hasPartition(partitionId)
+                    && blackboard.getPartition(partitionId) instanceof Map<?, ?> partition) {
+                partitions.add(partition);
+            }
+        }
+        final List<PathMatcher> fileNameMatchers = handledFileNames.stream()
+            .map(pattern -> FileSystems.getDefault()
+                .getPathMatcher("glob:" + pattern))
+            .collect(Collectors.toList());
+
+        return paths.stream()
+            .filter(path -> partitions.stream()
+                .anyMatch(partition -> partition.containsKey(path))
+                    || (path.getFileName() != null && fileNameMatchers.stream()
+                        .anyMatch(matcher -> matcher.matches(path.getFileName()))))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Rules overriding {@link Rule#create} may depend on their job being executed, so they cannot be
+     * dispatched per path.
+     */
+    private static boolean providesOwnJob(final Rule rule) {
+        try {
+            return !rule.getClass()
+                .getMethod("create", RetrieverConfiguration.class, RetrieverBlackboard.class)
+                .isDefault();
+        } catch (final NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return this.rules.stream()
+            .map(Rule::getName)
+            .collect(Collectors.joining(", ", "Rules [", "]"));
+    }
+}
@@ -1,24 +1,33 @@
 package org.palladiosimulator.retriever.extraction.discoverers;
 
+import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.discoverers.wrappers.CsvTable;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+import org.palladiosimulator.retriever.extraction.engine.LazyPartition;
+import org.palladiosimulator.retriever.extraction.engine.LazyPartition.Retention;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.ServiceConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
 
 import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
@@ -30,6 +39,11 @@ import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 public class CsvDiscoverer implements Discoverer {
 
     private static final String DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.csv";
+    public static final String TABLES_PARTITION_ID = DISCOVERER_ID + ".tables";
+    public static final String COLUMNAR_STORAGE_KEY = "columnar_storage";
+    public static final String MAX_FILE_SIZE_KEY = "max_file_size_mb";
+
+    private static final Logger LOG = Logger.getLogger(CsvDiscoverer.class);
 
     @Override
     public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
@@ -45,20 +59,29 @@ public class CsvDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, List<CSVRecord>> csvs = new HashMap<>();
-                Discoverer.find(root, ".csv", this.logger)
-                    .forEach(p -> {
-                        final List<CSVRecord> records = new LinkedList<>();
-                        try (Reader reader = new FileReader(p.toFile())) {
-                            CSVFormat.DEFAULT.parse(reader)
-                                .forEach(records::add);
-                        } catch (final IllegalStateException | IOException e) {
-                            this.logger.error(String.format("%s could not be read correctly.", p), e);
-                        }
-                        csvs.put(p, records);
-                    });
+                final FileIndex fileIndex = FileIndex.of(blackboard, root);
+                final List<Path> paths = fileIndex.find(".csv")
+                    .collect(Collectors.toList());
+                final ServiceConfiguration<Discoverer> discovererConfig = configuration.getConfig(Discoverer.class);
+                final boolean columnar = Boolean
+                    .parseBoolean(discovererConfig.getConfig(DISCOVERER_ID, COLUMNAR_STORAGE_KEY));
+                final long maxFileSize = parseMaxFileSize(discovererConfig.getConfig(DISCOVERER_ID, MAX_FILE_SIZE_KEY));
+                final Predicate<Path> exceedsMaxFileSize = p -> fileIndex.getEntry(p)
+                    .map(FileIndex.Entry::size)
+                    .orElse(0L) > maxFileSize;
+
+                // CSV files may be large data exports, so they may be dropped while they are not used.
+                // Both forms are loaded on demand, so only the form that rules ask for is ever kept.
+                final Map<Path, List<CSVRecord>> csvs = new LazyPartition<List<CSVRecord>>(paths,
+                        p -> Optional.of(readRecords(p, exceedsMaxFileSize.test(p), this.logger)), Retention.SOFT);
                 this.getBlackboard()
                     .putDiscoveredFiles(DISCOVERER_ID, csvs);
+                if (columnar) {
+                    final Map<Path, CsvTable> tables = new LazyPartition<CsvTable>(paths,
+                            p -> Optional.of(readTable(p, exceedsMaxFileSize.test(p), this.logger)), Retention.SOFT);
+                    this.getBlackboard()
+                        .putDiscoveredFiles(TABLES_PARTITION_ID, tables);
+                }
             }
 
             @Override
@@ -68,9 +91,56 @@ public class CsvDiscoverer implements Discoverer {
         };
     }
 
+    /**
+     * Reads all records of a file. For files exceeding the size limit, only the header record is
+     * read.
+     */
+    private static List<CSVRecord> readRecords(final Path path, final boolean headerOnly, final Logger logger) {
+        final List<CSVRecord> records = new LinkedList<>();
+        try (Reader reader = new FileReader(path.toFile())) {
+            final Iterator<CSVRecord> iterator = CSVFormat.DEFAULT.parse(reader)
+                .iterator();
+            while (iterator.hasNext() && !(headerOnly && !records.isEmpty())) {
+                records.add(iterator.next());
+            }
+        } catch (final IllegalStateException | IOException e) {
+            logger.error(String.format("%s could not be read correctly.", path), e);
+        }
+        return records;
+    }
+
+    /**
+     * Streams the records of a file into a columnar table. For files exceeding the size limit, only
+     * the header record is stored and the remaining records are counted.
+     */
+    private static CsvTable readTable(final Path path, final boolean headerOnly, final Logger logger) {
+        final CsvTable.Builder builder = new CsvTable.Builder(headerOnly);
+        try (Reader reader = new BufferedReader(new FileReader(path.toFile()))) {
+            final Iterator<CSVRecord> iterator = CSVFormat.DEFAULT.parse(reader)
+                .iterator();
+            while (iterator.hasNext()) {
+                builder.add(iterator.next());
+            }
+        } catch (final IllegalStateException | IOException e) {
+            logger.error(String.format("%s could not be read correctly.", path), e);
+        }
+        return builder.build();
+    }
+
+    private static long parseMaxFileSize(final String configuredSize) {
+        if (configuredSize != null && !configuredSize.isBlank()) {
+            try {
+                return Long.parseLong(configuredSize.strip()) * 1024 * 1024;
+            } catch (final NumberFormatException e) {
+                LOG.warn(String.format("Invalid maximum CSV file size: %s", configuredSize));
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return Set.of(COLUMNAR_STORAGE_KEY, MAX_FILE_SIZE_KEY);
     }
 
     @Override
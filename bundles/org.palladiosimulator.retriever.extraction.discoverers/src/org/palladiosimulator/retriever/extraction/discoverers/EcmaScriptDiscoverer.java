@@ -3,18 +3,23 @@ package org.palladiosimulator.retriever.extraction.discoverers;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.openjdk.nashorn.api.scripting.NashornException;
 import org.openjdk.nashorn.api.tree.CompilationUnitTree;
 import org.openjdk.nashorn.api.tree.Parser;
+import org.palladiosimulator.retriever.extraction.discoverers.wrappers.EcmaScriptDiagnostic;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -28,6 +33,12 @@ import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 public class EcmaScriptDiscoverer implements Discoverer {
 
     private static final String DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.ecmascript";
+    public static final String DIAGNOSTICS_PARTITION_ID = DISCOVERER_ID + ".diagnostics";
+    public static final String PARSER_THREADS_KEY = "parser_threads";
+
+    // Dependencies and bundler output, which do not describe the analyzed system.
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("node_modules", "bower_components");
+    private static final List<String> SKIPPED_SUFFIXES = List.of(".min.js", ".bundle.js", ".chunk.js");
 
     @Override
     public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
@@ -43,21 +54,25 @@ public class EcmaScriptDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, CompilationUnitTree> compilationUnits = new HashMap<>();
-                Stream.concat(Discoverer.find(root, ".js", this.logger), Discoverer.find(root, ".ts", this.logger))
-                    .forEach(p -> {
-                        try {
-                            final CompilationUnitTree compilationUnit = Parser.create()
-                                .parse(p.toFile(), d -> {
-                                    System.out.println(d);
-                                });
-                            compilationUnits.put(p, compilationUnit);
-                        } catch (NashornException | IOException e) {
-                            this.logger.error(String.format("%s could not be read correctly.", p), e);
-                        }
-                    });
+                final List<Path> paths = FileIndex.of(blackboard, root)
+                    .find(".js", ".ts")
+                    .filter(p -> !isGenerated(root.relativize(p)))
+                    .collect(Collectors.toList());
+                final int threads = ParallelParsing.getThreadCount(configuration.getConfig(Discoverer.class)
+                    .getConfig(DISCOVERER_ID, PARSER_THREADS_KEY), this.logger);
+
+                final Map<Path, CompilationUnitTree> compilationUnits = new ConcurrentHashMap<>();
+                final Map<Path, List<EcmaScriptDiagnostic>> diagnostics = new ConcurrentHashMap<>();
+                parseInParallel(paths, threads, compilationUnits, diagnostics, this.logger, monitor);
+
+                if (!diagnostics.isEmpty()) {
+                    this.logger.info(String.format("%d of %d ECMAScript files had parser diagnostics, see %s",
+                            diagnostics.size(), paths.size(), DIAGNOSTICS_PARTITION_ID));
+                }
                 this.getBlackboard()
                     .putDiscoveredFiles(DISCOVERER_ID, compilationUnits);
+                this.getBlackboard()
+                    .addPartition(DIAGNOSTICS_PARTITION_ID, diagnostics);
             }
 
             @Override
@@ -67,9 +82,54 @@ public class EcmaScriptDiscoverer implements Discoverer {
         };
     }
 
+    /**
+     * Parses the files on a pool of worker threads. Each worker reuses a single parser. Diagnostics
+     * are collected per file instead of being printed.
+     */
+    private static void parseInParallel(final List<Path> paths, final int threads,
+            final Map<Path, CompilationUnitTree> compilationUnits,
+            final Map<Path, List<EcmaScriptDiagnostic>> diagnostics, final Logger logger,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final ThreadLocal<Parser> parsers = ThreadLocal.withInitial(Parser::create);
+        final List<ParallelParsing.Task> tasks = new ArrayList<>();
+        for (final Path path : paths) {
+            tasks.add(fileMonitor -> {
+                final List<EcmaScriptDiagnostic> fileDiagnostics = new ArrayList<>();
+                try {
+                    final CompilationUnitTree compilationUnit = parsers.get()
+                        .parse(path.toFile(), d -> fileDiagnostics.add(EcmaScriptDiagnostic.of(d)));
+                    if (compilationUnit != null) {
+                        compilationUnits.put(path, compilationUnit);
+                    }
+                } catch (NashornException | IOException e) {
+                    logger.error(String.format("%s could not be read correctly.", path), e);
+                }
+                if (!fileDiagnostics.isEmpty()) {
+                    diagnostics.put(path, List.copyOf(fileDiagnostics));
+                    logger.debug(String.format("%s: %s", path, fileDiagnostics));
+                }
+            });
+        }
+
+        ParallelParsing.run("Parsing ECMAScript files", tasks, threads, monitor);
+    }
+
+    private static boolean isGenerated(final Path relativePath) {
+        for (final Path segment : relativePath) {
+            if (SKIPPED_DIRECTORIES.contains(segment.toString())) {
+                return true;
+            }
+        }
+        final String fileName = relativePath.getFileName()
+            .toString()
+            .toLowerCase(Locale.ROOT);
+        return SKIPPED_SUFFIXES.stream()
+            .anyMatch(fileName::endsWith);
+    }
+
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return Set.of(PARSER_THREADS_KEY);
     }
 
     @Override
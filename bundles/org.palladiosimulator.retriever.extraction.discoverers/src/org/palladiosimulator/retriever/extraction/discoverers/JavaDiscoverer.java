@@ -2,12 +2,18 @@ package org.palladiosimulator.retriever.extraction.discoverers;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.eclipse.jdt.core.JavaCore;
@@ -15,8 +21,10 @@ import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.ServiceConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
 
 import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
@@ -28,6 +36,10 @@ import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 public class JavaDiscoverer implements Discoverer {
 
     public static final String DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
+    public static final String PARALLEL_PARSING_KEY = "parallel_parsing";
+    public static final String PARSER_THREADS_KEY = "parser_threads";
+
+    private static final List<String> BUILD_FILE_NAMES = List.of("pom.xml", "build.gradle", "build.gradle.kts");
 
     @Override
     public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
@@ -44,47 +56,148 @@ public class JavaDiscoverer implements Discoverer {
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
                 final Map<Path, CompilationUnit> compilationUnits = new HashMap<>();
-                final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-                parser.setKind(ASTParser.K_COMPILATION_UNIT);
-                parser.setResolveBindings(true);
-                parser.setBindingsRecovery(true);
-                parser.setStatementsRecovery(true);
-                final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
-                parser.setCompilerOptions(
-                        Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
-                                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
-                final String[] classpathEntries = Discoverer.find(root, ".jar", this.logger)
+                final FileIndex fileIndex = FileIndex.of(blackboard, root);
+                final String[] classpathEntries = fileIndex.find(".jar")
                     .map(Path::toString)
                     .toArray(String[]::new);
-                final String[] sourceFilePaths = Discoverer.find(root, ".java", this.logger)
+                final List<Path> sourceFiles = fileIndex.find(".java")
+                    .collect(Collectors.toList());
+
+                final ServiceConfiguration<Discoverer> discovererConfig = configuration.getConfig(Discoverer.class);
+                final boolean parallel = Boolean
+                    .parseBoolean(discovererConfig.getConfig(DISCOVERER_ID, PARALLEL_PARSING_KEY));
+                if (parallel) {
+                    final int threads = ParallelParsing
+                        .getThreadCount(discovererConfig.getConfig(DISCOVERER_ID, PARSER_THREADS_KEY), this.logger);
+                    compilationUnits.putAll(
+                            parseInParallel(fileIndex, classpathEntries, sourceFiles, threads, this.logger, monitor));
+                } else {
+                    final String[] sourceFilePaths = sourceFiles.stream()
+                        .map(Path::toString)
+                        .toArray(String[]::new);
+                    try {
+                        final ASTParser parser = createParser(classpathEntries, new String[0]);
+                        parser.createASTs(sourceFilePaths, new String[sourceFilePaths.length], new String[0],
+                                new FileASTRequestor() {
+                                    @Override
+                                    public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
+                                        compilationUnits.put(Path.of(sourceFilePath), ast);
+                                    }
+                                }, monitor);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        this.logger.error(String.format("No Java files in %s could be transposed.", root), e);
+                    }
+                }
+                this.getBlackboard()
+                    .putDiscoveredFiles(DISCOVERER_ID, compilationUnits);
+            }
+
+            @Override
+            public String getName() {
+                return "Java Discoverer Job";
+            }
+        };
+    }
+
+    private static ASTParser createParser(final String[] classpathEntries, final String[] sourcepathEntries) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        parser.setBindingsRecovery(true);
+        parser.setStatementsRecovery(true);
+        final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
+                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
+        parser.setEnvironment(classpathEntries, sourcepathEntries, null, true);
+        return parser;
+    }
+
+    /**
+     * Parses the source files in shards, one per Maven or Gradle module, on a pool of worker
+     * threads. Every shard has its own parser. All source roots are put on the source path of
+     * every parser, so that types declared in other shards are still resolved. Note that
+     * bindings of different shards are different objects, only their keys and names match.
+     */
+    private static Map<Path, CompilationUnit> parseInParallel(final FileIndex fileIndex,
+            final String[] classpathEntries, final List<Path> sourceFiles, final int threads, final Logger logger,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final Map<Path, List<Path>> shards = shardByModule(fileIndex, sourceFiles);
+        final String[] sourcepathEntries = findSourceRoots(sourceFiles).stream()
+            .map(Path::toString)
+            .toArray(String[]::new);
+        final Map<Path, CompilationUnit> compilationUnits = new ConcurrentHashMap<>();
+        final List<ParallelParsing.Task> tasks = new ArrayList<>();
+        for (final Entry<Path, List<Path>> shard : shards.entrySet()) {
+            tasks.add(shardMonitor -> {
+                final String[] sourceFilePaths = shard.getValue()
+                    .stream()
                     .map(Path::toString)
                     .toArray(String[]::new);
                 try {
-                    parser.setEnvironment(classpathEntries, new String[0], new String[0], true);
-                    parser.createASTs(sourceFilePaths, new String[sourceFilePaths.length], new String[0],
-                            new FileASTRequestor() {
+                    createParser(classpathEntries, sourcepathEntries).createASTs(sourceFilePaths,
+                            new String[sourceFilePaths.length], new String[0], new FileASTRequestor() {
                                 @Override
                                 public void acceptAST(final String sourceFilePath, final CompilationUnit ast) {
                                     compilationUnits.put(Path.of(sourceFilePath), ast);
                                 }
-                            }, monitor);
+                            }, shardMonitor);
                 } catch (IllegalArgumentException | IllegalStateException e) {
-                    this.logger.error(String.format("No Java files in %s could be transposed.", root), e);
+                    logger.error(String.format("No Java files in %s could be transposed.", shard.getKey()), e);
                 }
-                this.getBlackboard()
-                    .putDiscoveredFiles(DISCOVERER_ID, compilationUnits);
+            });
+        }
+
+        ParallelParsing.run("Parsing Java files", tasks, threads, monitor);
+        return compilationUnits;
+    }
+
+    /**
+     * Assigns each source file to the closest enclosing directory containing a Maven or Gradle
+     * build file. Files outside of any module form their own shard, keyed by the root of the index.
+     */
+    public static Map<Path, List<Path>> shardByModule(final FileIndex fileIndex, final List<Path> sourceFiles) {
+        final Set<Path> moduleRoots = BUILD_FILE_NAMES.stream()
+            .flatMap(name -> fileIndex.findByName(name)
+                .stream())
+            .map(Path::getParent)
+            .collect(Collectors.toSet());
+        final Map<Path, List<Path>> shards = new HashMap<>();
+        for (final Path sourceFile : sourceFiles) {
+            Path moduleRoot = sourceFile.getParent();
+            while (moduleRoot != null && !moduleRoots.contains(moduleRoot)) {
+                moduleRoot = moduleRoot.getParent();
             }
+            shards.computeIfAbsent(moduleRoot == null ? fileIndex.getRoot() : moduleRoot, x -> new ArrayList<>())
+                .add(sourceFile);
+        }
+        return shards;
+    }
 
-            @Override
-            public String getName() {
-                return "Java Discoverer Job";
+    /**
+     * Finds the source roots of conventionally laid out projects, i.e. the src/main/java and
+     * src/test/java directories containing the source files.
+     */
+    public static Set<Path> findSourceRoots(final List<Path> sourceFiles) {
+        final Set<Path> sourceRoots = new HashSet<>();
+        for (final Path sourceFile : sourceFiles) {
+            for (int i = 2; i < sourceFile.getNameCount(); i++) {
+                if ("java".equals(sourceFile.getName(i)
+                    .toString())
+                        && "src".equals(sourceFile.getName(i - 2)
+                            .toString())) {
+                    final Path relativeRoot = sourceFile.subpath(0, i + 1);
+                    sourceRoots.add(sourceFile.isAbsolute() ? sourceFile.getRoot()
+                        .resolve(relativeRoot) : relativeRoot);
+                    break;
+                }
             }
-        };
+        }
+        return sourceRoots;
     }
 
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return Set.of(PARALLEL_PARSING_KEY, PARSER_THREADS_KEY);
     }
 
     @Override
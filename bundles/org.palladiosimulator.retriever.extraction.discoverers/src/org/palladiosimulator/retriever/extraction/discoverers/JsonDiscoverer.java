@@ -1,14 +1,15 @@
 package org.palladiosimulator.retriever.extraction.discoverers;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +17,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.palladiosimulator.retriever.extraction.discoverers.cache.ContentHashCache;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+import org.palladiosimulator.retriever.extraction.engine.LazyPartition;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -44,17 +48,27 @@ public class JsonDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, JSONObject> jsons = new HashMap<>();
-                Discoverer.find(root, ".json", this.logger)
-                    .forEach(p -> {
-                        try (BufferedReader reader = new BufferedReader(new FileReader(p.toFile()))) {
-                            final String jsonSource = reader.lines()
-                                .collect(Collectors.joining(System.lineSeparator()));
-                            jsons.put(p, new JSONObject(jsonSource));
-                        } catch (ClassCastException | IOException | JSONException e) {
-                            this.logger.error(String.format("%s could not be read correctly.", p), e);
+                final ContentHashCache cache = ContentHashCache.of(configuration, DISCOVERER_ID);
+                final List<Path> paths = FileIndex.of(blackboard, root)
+                    .find(".json")
+                    .collect(Collectors.toList());
+                final Map<Path, JSONObject> jsons = new LazyPartition<JSONObject>(paths, p -> {
+                    try {
+                        final byte[] content = Files.readAllBytes(p);
+                        // JSONObject is not serializable, so its map representation is cached.
+                        final Optional<Map<?, ?>> cached = cache.load(content, Map.class)
+                            .map(map -> (Map<?, ?>) map);
+                        if (cached.isPresent()) {
+                            return Optional.of(new JSONObject((Map<?, ?>) restoreNulls(cached.get())));
                         }
-                    });
+                        final JSONObject json = new JSONObject(new String(content));
+                        cache.store(content, (Serializable) json.toMap());
+                        return Optional.of(json);
+                    } catch (ClassCastException | IOException | JSONException e) {
+                        this.logger.error(String.format("%s could not be read correctly.", p), e);
+                        return Optional.empty();
+                    }
+                });
                 this.getBlackboard()
                     .putDiscoveredFiles(DISCOVERER_ID, jsons);
             }
@@ -66,9 +80,31 @@ public class JsonDiscoverer implements Discoverer {
         };
     }
 
+    /**
+     * Replaces the {@code null} values of a map representation by {@link JSONObject#NULL}, which
+     * {@link JSONObject#toMap()} turned into {@code null}. Otherwise, the keys of {@code null} values
+     * would be dropped when the map is turned into a {@link JSONObject} again.
+     */
+    private static Object restoreNulls(final Object value) {
+        if (value == null) {
+            return JSONObject.NULL;
+        }
+        if (value instanceof Map<?, ?> map) {
+            final Map<Object, Object> restored = new LinkedHashMap<>();
+            map.forEach((key, mapValue) -> restored.put(key, restoreNulls(mapValue)));
+            return restored;
+        }
+        if (value instanceof List<?> list) {
+            return list.stream()
+                .map(JsonDiscoverer::restoreNulls)
+                .collect(Collectors.toList());
+        }
+        return value;
+    }
+
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return ContentHashCache.CONFIGURATION_KEYS;
     }
 
     @Override
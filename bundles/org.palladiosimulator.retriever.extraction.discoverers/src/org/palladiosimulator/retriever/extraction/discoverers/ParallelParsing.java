@@ -0,0 +1,105 @@
+package org.palladiosimulator.retriever.extraction.discoverers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Runs the parsing tasks of a discoverer on a pool of worker threads.
+ */
+final class ParallelParsing {
+
+    /**
+     * A unit of parsing work, e.g. a single file or a shard of files.
+     */
+    @FunctionalInterface
+    interface Task {
+        /**
+         * @param monitor
+         *            a monitor that reports whether parsing was canceled, progress reported to it
+         *            is ignored
+         */
+        void run(IProgressMonitor monitor);
+    }
+
+    private ParallelParsing() {
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Parses the configured number of threads.
+     *
+     * @return the configured number of threads, or the number of available processors if none or
+     *         an invalid number is configured
+     */
+    static int getThreadCount(final String configuredThreads, final Logger logger) {
+        if (configuredThreads != null && !configuredThreads.isBlank()) {
+            try {
+                return Math.max(1, Integer.parseInt(configuredThreads.strip()));
+            } catch (final NumberFormatException e) {
+                logger.warn(String.format("Invalid number of parser threads: %s", configuredThreads));
+            }
+        }
+        return Runtime.getRuntime()
+            .availableProcessors();
+    }
+
+    /**
+     * Runs the tasks on at most the given number of threads and waits for all of them. The given
+     * monitor is only used by the calling thread, it reports how many tasks are done. Canceling it
+     * cancels the tasks that have not started yet and is forwarded to the running ones.
+     *
+     * @param description
+     *            what is parsed, e.g. "Parsing Java files"
+     */
+    static void run(final String description, final List<Task> tasks, final int threads,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final IProgressMonitor cancellation = new NullProgressMonitor() {
+            @Override
+            public boolean isCanceled() {
+                return monitor.isCanceled();
+            }
+        };
+
+        monitor.beginTask(description, tasks.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, tasks.size())));
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (final Task task : tasks) {
+                results.add(executor.submit(() -> {
+                    if (cancellation.isCanceled()) {
+                        throw new OperationCanceledException();
+                    }
+                    task.run(cancellation);
+                }));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+                monitor.worked(1);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new JobFailedException(description + " was interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof OperationCanceledException) {
+                throw new UserCanceledException();
+            }
+            throw new JobFailedException(description + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            monitor.done();
+        }
+    }
+}
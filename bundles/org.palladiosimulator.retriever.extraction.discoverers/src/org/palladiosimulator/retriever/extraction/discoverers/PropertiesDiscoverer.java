@@ -1,19 +1,22 @@
 package org.palladiosimulator.retriever.extraction.discoverers;
 
-import java.io.FileReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.discoverers.cache.ContentHashCache;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -43,11 +46,20 @@ public class PropertiesDiscoverer implements Discoverer {
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
                 final Map<Path, Object> propertyFiles = new HashMap<>();
-                Discoverer.find(root, ".properties", this.logger)
+                final ContentHashCache cache = ContentHashCache.of(configuration, DISCOVERER_ID);
+                FileIndex.of(blackboard, root)
+                    .find(".properties")
                     .forEach(p -> {
-                        try (Reader reader = new FileReader(p.toFile())) {
+                        try {
+                            final byte[] content = Files.readAllBytes(p);
+                            final Optional<Properties> cached = cache.load(content, Properties.class);
+                            if (cached.isPresent()) {
+                                propertyFiles.put(p, cached.get());
+                                return;
+                            }
                             final Properties properties = new Properties();
-                            properties.load(reader);
+                            properties.load(new InputStreamReader(new ByteArrayInputStream(content)));
+                            cache.store(content, properties);
                             propertyFiles.put(p, properties);
                         } catch (final IOException | IllegalArgumentException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
@@ -66,7 +78,7 @@ public class PropertiesDiscoverer implements Discoverer {
 
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return ContentHashCache.CONFIGURATION_KEYS;
     }
 
     @Override
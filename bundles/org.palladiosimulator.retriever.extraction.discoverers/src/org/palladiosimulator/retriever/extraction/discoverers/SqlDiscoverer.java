@@ -1,18 +1,24 @@
 package org.palladiosimulator.retriever.extraction.discoverers;
 
-import java.io.FileReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.discoverers.cache.ContentHashCache;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+import org.palladiosimulator.retriever.extraction.engine.LazyPartition;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -44,15 +50,29 @@ public class SqlDiscoverer implements Discoverer {
                 final Path root = Paths.get(CommonPlugin.asLocalURI(configuration.getInputFolder())
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
-                final Map<Path, Statement> sqls = new HashMap<>();
-                Discoverer.find(root, ".sql", this.logger)
-                    .forEach(p -> {
-                        try (Reader reader = new FileReader(p.toFile())) {
-                            sqls.put(p, CCJSqlParserUtil.parse(reader));
-                        } catch (final IOException | JSQLParserException e) {
-                            this.logger.error(String.format("%s could not be read correctly.", p), e);
+                final ContentHashCache cache = ContentHashCache.of(configuration, DISCOVERER_ID);
+                final List<Path> paths = FileIndex.of(blackboard, root)
+                    .find(".sql")
+                    .collect(Collectors.toList());
+                final Map<Path, Statement> sqls = new LazyPartition<Statement>(paths, p -> {
+                    try {
+                        final byte[] content = Files.readAllBytes(p);
+                        final Optional<Statement> cached = cache.load(content, Statement.class);
+                        if (cached.isPresent()) {
+                            return cached;
                         }
-                    });
+                        final Statement statement = CCJSqlParserUtil
+                            .parse(new InputStreamReader(new ByteArrayInputStream(content)));
+                        // Only statements of JSqlParser versions with serializable models are cached.
+                        if (statement instanceof Serializable serializableStatement) {
+                            cache.store(content, serializableStatement);
+                        }
+                        return Optional.of(statement);
+                    } catch (final IOException | JSQLParserException e) {
+                        this.logger.error(String.format("%s could not be read correctly.", p), e);
+                        return Optional.empty();
+                    }
+                });
                 this.getBlackboard()
                     .putDiscoveredFiles(DISCOVERER_ID, sqls);
             }
@@ -66,7 +86,7 @@ public class SqlDiscoverer implements Discoverer {
 
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return ContentHashCache.CONFIGURATION_KEYS;
     }
 
     @Override
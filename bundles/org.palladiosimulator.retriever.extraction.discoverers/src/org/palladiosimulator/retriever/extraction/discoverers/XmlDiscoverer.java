@@ -1,14 +1,15 @@
 package org.palladiosimulator.retriever.extraction.discoverers;
 
-import java.io.FileReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -16,6 +17,8 @@ import org.eclipse.emf.common.CommonPlugin;
 import org.jdom2.Document;
 import org.jdom2.JDOMException;
 import org.jdom2.input.SAXBuilder;
+import org.palladiosimulator.retriever.extraction.discoverers.cache.ContentHashCache;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -45,10 +48,21 @@ public class XmlDiscoverer implements Discoverer {
                     .devicePath());
                 this.setBlackboard(Objects.requireNonNull(blackboard));
                 final Map<Path, Document> xmls = new HashMap<>();
-                Discoverer.find(root, ".xml", this.logger)
+                final ContentHashCache cache = ContentHashCache.of(configuration, DISCOVERER_ID);
+                FileIndex.of(blackboard, root)
+                    .find(".xml")
                     .forEach(p -> {
-                        try (Reader reader = new FileReader(p.toFile())) {
-                            xmls.put(p, new SAXBuilder().build(reader));
+                        try {
+                            final byte[] content = Files.readAllBytes(p);
+                            final Optional<Document> cached = cache.load(content, Document.class);
+                            if (cached.isPresent()) {
+                                xmls.put(p, cached.get());
+                                return;
+                            }
+                            final Document document = new SAXBuilder()
+                                .build(new InputStreamReader(new ByteArrayInputStream(content)));
+                            cache.store(content, document);
+                            xmls.put(p, document);
                         } catch (IOException | JDOMException e) {
                             this.logger.error(String.format("%s could not be read correctly.", p), e);
                         }
@@ -67,7 +81,7 @@ public class XmlDiscoverer implements Discoverer {
 
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return ContentHashCache.CONFIGURATION_KEYS;
     }
 
     @Override
@@ -1,22 +1,23 @@
 package org.palladiosimulator.retriever.extraction.discoverers;
 
-import java.io.FileReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.CommonPlugin;
+import org.palladiosimulator.retriever.extraction.discoverers.cache.ContentHashCache;
 import org.palladiosimulator.retriever.extraction.discoverers.wrappers.YamlMapper;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
 import org.palladiosimulator.retriever.services.Discoverer;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
@@ -50,12 +51,22 @@ public class YamlDiscoverer implements Discoverer {
                 this.setBlackboard(Objects.requireNonNull(blackboard));
                 final Map<Path, Object> yamls = new HashMap<>();
                 final Map<Path, YamlMapper> mappers = new HashMap<>();
-                Stream.concat(Discoverer.find(root, ".yml", this.logger), Discoverer.find(root, ".yaml", this.logger))
+                final ContentHashCache cache = ContentHashCache.of(configuration, DISCOVERER_ID);
+                FileIndex.of(blackboard, root)
+                    .find(".yml", ".yaml")
                     .forEach(p -> {
-                        try (Reader reader = new FileReader(p.toFile())) {
-                            final List<Object> yamlContents = new ArrayList<>();
-                            new Yaml().loadAll(reader)
-                                .forEach(yamlContents::add);
+                        try {
+                            final byte[] content = Files.readAllBytes(p);
+                            final Optional<ArrayList<Object>> cached = loadDocuments(cache, content);
+                            final ArrayList<Object> yamlContents;
+                            if (cached.isPresent()) {
+                                yamlContents = cached.get();
+                            } else {
+                                yamlContents = new ArrayList<>();
+                                new Yaml().loadAll(new InputStreamReader(new ByteArrayInputStream(content)))
+                                    .forEach(yamlContents::add);
+                                cache.store(content, yamlContents);
+                            }
                             yamls.put(p, yamlContents);
                             mappers.put(p, new YamlMapper(yamlContents));
                         } catch (final IOException | YAMLException e) {
@@ -75,9 +86,15 @@ public class YamlDiscoverer implements Discoverer {
         };
     }
 
+    @SuppressWarnings("unchecked")
+    private static Optional<ArrayList<Object>> loadDocuments(final ContentHashCache cache, final byte[] content) {
+        return cache.load(content, ArrayList.class)
+            .map(documents -> (ArrayList<Object>) documents);
+    }
+
     @Override
     public Set<String> getConfigurationKeys() {
-        return Collections.emptySet();
+        return ContentHashCache.CONFIGURATION_KEYS;
     }
 
     @Override
@@ -0,0 +1,274 @@
+package org.palladiosimulator.retriever.extraction.discoverers.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.retriever.services.Discoverer;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.ServiceConfiguration;
+
+/**
+ * An on-disk cache of parsed files that persists across runs. Entries are keyed by the SHA-256
+ * hash of the file content and the ID of the discoverer that parsed it, and hold the parse result
+ * in serialized form. When the cache grows beyond its size limit by storing entries, the least
+ * recently used entries are evicted.
+ * <p>
+ * The cache is disabled unless a cache directory is configured for the discoverer.
+ */
+public final class ContentHashCache {
+    public static final String CACHE_DIRECTORY_KEY = "cache_directory";
+    public static final String CACHE_SIZE_KEY = "cache_max_size_mb";
+    public static final Set<String> CONFIGURATION_KEYS = Set.of(CACHE_DIRECTORY_KEY, CACHE_SIZE_KEY);
+
+    private static final Logger LOG = Logger.getLogger(ContentHashCache.class);
+
+    // Bump when the serialized form of any discoverer changes.
+    private static final String FORMAT_VERSION = "v1";
+    private static final long DEFAULT_SIZE_MB = 256;
+    private static final String ENTRY_SUFFIX = ".bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final long UNKNOWN_SIZE = -1;
+    // Only the types that the discoverers store: YAML documents and JSON maps (collections, strings,
+    // numbers and dates), properties, JDOM documents and JSqlParser statements. Object is needed for
+    // the arrays backing collections.
+    private static final ObjectInputFilter ENTRY_FILTER = ObjectInputFilter.Config
+        .createFilter("java.lang.Object;java.lang.Enum;java.lang.String;java.lang.Boolean;java.lang.Character;"
+                + "java.lang.Number;java.lang.Byte;java.lang.Short;java.lang.Integer;java.lang.Long;"
+                + "java.lang.Float;java.lang.Double;java.math.BigInteger;java.math.BigDecimal;java.util.*;"
+                + "org.jdom2.**;net.sf.jsqlparser.**;!*");
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    // Temporary files created since then may belong to entries that are still being stored.
+    private final FileTime creationTime;
+    // The size of the cache as of the last eviction plus the size of the entries stored since.
+    private final AtomicLong size;
+
+    private ContentHashCache(final Path directory, final long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        this.creationTime = FileTime.fromMillis(System.currentTimeMillis());
+        this.size = new AtomicLong(UNKNOWN_SIZE);
+    }
+
+    /**
+     * Creates the cache of a discoverer from its configuration.
+     *
+     * @param configuration
+     *            the Retriever configuration
+     * @param discovererId
+     *            the ID of the discoverer using the cache
+     * @return the cache, which is disabled if no cache directory is configured
+     */
+    public static ContentHashCache of(final RetrieverConfiguration configuration, final String discovererId) {
+        final ServiceConfiguration<Discoverer> discovererConfig = configuration.getConfig(Discoverer.class);
+        final String configuredDirectory = discovererConfig.getConfig(discovererId, CACHE_DIRECTORY_KEY);
+        if (configuredDirectory == null || configuredDirectory.isBlank()) {
+            return new ContentHashCache(null, 0);
+        }
+
+        long maxSizeMegabytes = DEFAULT_SIZE_MB;
+        final String configuredSize = discovererConfig.getConfig(discovererId, CACHE_SIZE_KEY);
+        if (configuredSize != null && !configuredSize.isBlank()) {
+            try {
+                maxSizeMegabytes = Long.parseLong(configuredSize.strip());
+            } catch (final NumberFormatException e) {
+                LOG.warn(String.format("Invalid cache size for %s: %s", discovererId, configuredSize));
+            }
+        }
+
+        final Path directory = Path.of(configuredDirectory.strip())
+            .resolve(FORMAT_VERSION)
+            .resolve(discovererId);
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            LOG.warn(String.format("Cache directory %s could not be created, caching is disabled.", directory), e);
+            return new ContentHashCache(null, 0);
+        }
+        return new ContentHashCache(directory, maxSizeMegabytes * 1024 * 1024);
+    }
+
+    public boolean isEnabled() {
+        return this.directory != null;
+    }
+
+    /**
+     * Loads the parse result of a file with the given content.
+     *
+     * @param content
+     *            the content of the file
+     * @return the cached parse result, or an empty optional on a cache miss
+     */
+    public Optional<Object> load(final byte[] content) {
+        if (!this.isEnabled()) {
+            return Optional.empty();
+        }
+        final Path entry = this.entryOf(content);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(Files.readAllBytes(entry)))) {
+            input.setObjectInputFilter(ENTRY_FILTER);
+            final Object value = input.readObject();
+            // Mark the entry as recently used.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.ofNullable(value);
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.warn(String.format("Cache entry %s could not be read, it is discarded.", entry), e);
+            this.delete(entry);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads the parse result of a file with the given content, if it has the expected type.
+     *
+     * @param content
+     *            the content of the file
+     * @param type
+     *            the expected type of the parse result
+     * @return the cached parse result, or an empty optional on a cache miss
+     */
+    public <T> Optional<T> load(final byte[] content, final Class<T> type) {
+        return this.load(content)
+            .filter(type::isInstance)
+            .map(type::cast);
+    }
+
+    /**
+     * Stores the parse result of a file with the given content. Results that cannot be serialized
+     * are not cached. If the cache grows beyond its size limit, the least recently used entries are
+     * evicted.
+     *
+     * @param content
+     *            the content of the file
+     * @param value
+     *            the parse result
+     */
+    public void store(final byte[] content, final Serializable value) {
+        if (!this.isEnabled()) {
+            return;
+        }
+        final Path entry = this.entryOf(content);
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(serialized)) {
+            output.writeObject(value);
+        } catch (final IOException e) {
+            LOG.debug(String.format("%s could not be serialized, it is not cached.", value.getClass()
+                .getName()));
+            return;
+        }
+        Path temporaryEntry = null;
+        try {
+            temporaryEntry = Files.createTempFile(this.directory, null, TEMPORARY_SUFFIX);
+            Files.write(temporaryEntry, serialized.toByteArray());
+            Files.move(temporaryEntry, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOG.warn(String.format("Cache entry %s could not be written.", entry), e);
+            if (temporaryEntry != null) {
+                this.delete(temporaryEntry);
+            }
+            return;
+        }
+        // Replaced entries are counted twice, which at worst causes an early eviction.
+        if (this.size.get() == UNKNOWN_SIZE || this.size.addAndGet(serialized.size()) > this.maxSizeBytes) {
+            this.evict();
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries until the cache fits into its size limit. Temporary
+     * files left behind by interrupted runs count towards the limit and are evicted like entries.
+     */
+    public synchronized void evict() {
+        if (!this.isEnabled()) {
+            return;
+        }
+        final List<CacheEntry> entries;
+        try (Stream<Path> files = Files.list(this.directory)) {
+            entries = files.filter(file -> {
+                final String fileName = file.getFileName()
+                    .toString();
+                return fileName.endsWith(ENTRY_SUFFIX) || fileName.endsWith(TEMPORARY_SUFFIX);
+            })
+                .map(CacheEntry::of)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(ArrayList::new));
+        } catch (final IOException e) {
+            LOG.warn(String.format("Cache directory %s could not be listed.", this.directory), e);
+            return;
+        }
+
+        long size = entries.stream()
+            .mapToLong(CacheEntry::size)
+            .sum();
+        entries.sort(Comparator.comparing(CacheEntry::lastUsed));
+        for (final CacheEntry entry : entries) {
+            if (size <= this.maxSizeBytes) {
+                break;
+            }
+            if (entry.path()
+                .getFileName()
+                .toString()
+                .endsWith(TEMPORARY_SUFFIX) && entry.lastUsed()
+                    .compareTo(this.creationTime) >= 0) {
+                continue;
+            }
+            size -= entry.size();
+            this.delete(entry.path());
+        }
+        this.size.set(size);
+    }
+
+    private Path entryOf(final byte[] content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(content);
+            return this.directory.resolve(HexFormat.of()
+                .formatHex(hash) + ENTRY_SUFFIX);
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void delete(final Path entry) {
+        try {
+            Files.deleteIfExists(entry);
+        } catch (final IOException e) {
+            LOG.warn(String.format("Cache entry %s could not be deleted.", entry), e);
+        }
+    }
+
+    private record CacheEntry(Path path, long size, FileTime lastUsed) {
+        static Optional<CacheEntry> of(final Path path) {
+            try {
+                return Optional.of(new CacheEntry(path, Files.size(path), Files.getLastModifiedTime(path)));
+            } catch (final IOException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.palladiosimulator.retriever.extraction.discoverers.wrappers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A compact, column-oriented representation of a CSV file. The first record is treated as the
+ * header, all following records are rows. Equal cells of a column share one string instance.
+ * <p>
+ * For files exceeding the configured size limit, only the header and the number of rows are
+ * recorded, see {@link #isTruncated()}.
+ */
+public final class CsvTable {
+    private final List<String> header;
+    private final int rowCount;
+    private final String[][] columns;
+
+    private CsvTable(final List<String> header, final int rowCount, final String[][] columns) {
+        this.header = header;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    public List<String> getHeader() {
+        return this.header;
+    }
+
+    /**
+     * @return the number of rows, excluding the header
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * @return whether only the header and the number of rows were recorded
+     */
+    public boolean isTruncated() {
+        return this.columns == null;
+    }
+
+    /**
+     * @return the cell in the given row and column, or an empty optional if the row is shorter or
+     *         the table is truncated
+     */
+    public Optional<String> get(final int row, final int column) {
+        if (this.isTruncated() || row < 0 || row >= this.rowCount || column < 0 || column >= this.columns.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.columns[column][row]);
+    }
+
+    /**
+     * @return the cells of the column with the given header, or an empty optional if there is no
+     *         such column or the table is truncated
+     */
+    public Optional<List<String>> getColumn(final String name) {
+        final int column = this.header.indexOf(name);
+        if (this.isTruncated() || column < 0 || column >= this.columns.length) {
+            return Optional.empty();
+        }
+        return Optional.of(Collections.unmodifiableList(Arrays.asList(this.columns[column])));
+    }
+
+    /**
+     * Collects the records of a CSV file one at a time, without keeping the records themselves.
+     */
+    public static final class Builder {
+        private final boolean headerOnly;
+        private List<String> header;
+        private int rowCount;
+        private final List<List<String>> columns;
+        private final List<Map<String, String>> canonicalCells;
+
+        /**
+         * @param headerOnly
+         *            whether only the header is recorded, the rows are counted but not stored
+         */
+        public Builder(final boolean headerOnly) {
+            this.headerOnly = headerOnly;
+            this.columns = new ArrayList<>();
+            this.canonicalCells = new ArrayList<>();
+        }
+
+        public void add(final Iterable<String> record) {
+            if (this.header == null) {
+                final List<String> headerCells = new ArrayList<>();
+                for (final String cell : record) {
+                    headerCells.add(cell.intern());
+                }
+                this.header = Collections.unmodifiableList(headerCells);
+                return;
+            }
+            if (this.headerOnly) {
+                this.rowCount++;
+                return;
+            }
+
+            int column = 0;
+            for (final String cell : record) {
+                if (column == this.columns.size()) {
+                    // A new, longer row: earlier rows have no cells in this column.
+                    this.columns.add(new ArrayList<>(Collections.nCopies(this.rowCount, null)));
+                    this.canonicalCells.add(new HashMap<>());
+                }
+                this.columns.get(column)
+                    .add(this.canonicalCells.get(column)
+                        .computeIfAbsent(cell, x -> x));
+                column++;
+            }
+            for (; column < this.columns.size(); column++) {
+                this.columns.get(column)
+                    .add(null);
+            }
+            this.rowCount++;
+        }
+
+        public CsvTable build() {
+            final List<String> finalHeader = this.header == null ? List.of() : this.header;
+            if (this.headerOnly) {
+                return new CsvTable(finalHeader, this.rowCount, null);
+            }
+            final String[][] columnArrays = new String[this.columns.size()][];
+            for (int i = 0; i < columnArrays.length; i++) {
+                columnArrays[i] = this.columns.get(i)
+                    .toArray(new String[0]);
+            }
+            return new CsvTable(finalHeader, this.rowCount, columnArrays);
+        }
+    }
+}
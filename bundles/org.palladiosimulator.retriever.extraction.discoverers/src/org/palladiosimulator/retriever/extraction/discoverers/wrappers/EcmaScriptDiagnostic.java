@@ -0,0 +1,19 @@
+package org.palladiosimulator.retriever.extraction.discoverers.wrappers;
+
+import org.openjdk.nashorn.api.tree.Diagnostic;
+
+/**
+ * A parser diagnostic of an ECMAScript file, detached from the parser that reported it.
+ */
+public record EcmaScriptDiagnostic(Diagnostic.Kind kind, long line, long column, String message) {
+
+    public static EcmaScriptDiagnostic of(final Diagnostic diagnostic) {
+        return new EcmaScriptDiagnostic(diagnostic.getKind(), diagnostic.getLineNumber(),
+                diagnostic.getColumnNumber(), diagnostic.getMessage());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s at %d:%d: %s", this.kind, this.line, this.column, this.message);
+    }
+}
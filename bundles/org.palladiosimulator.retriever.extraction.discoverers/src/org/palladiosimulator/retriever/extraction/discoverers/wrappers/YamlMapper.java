@@ -1,11 +1,29 @@
 package org.palladiosimulator.retriever.extraction.discoverers.wrappers;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Function;
 
+/**
+ * Looks up dotted keys like "spring.application.name" in the documents of a YAML file. The first
+ * document containing a key wins.
+ * <p>
+ * On first use, all keys are flattened into an index, so that each lookup is a single hash probe.
+ */
 public class YamlMapper implements Function<String, Optional<Object>> {
+    private static final char SEPARATOR = '.';
+
     private final Iterable<Object> subfiles;
+    private volatile Map<String, Object> index;
+    private volatile NavigableMap<String, Object> sortedIndex;
 
     public YamlMapper(final Iterable<Object> content) {
         this.subfiles = content;
@@ -13,34 +31,73 @@ public class YamlMapper implements Function<String, Optional<Object>> {
 
     @Override
     public Optional<Object> apply(final String fullKey) {
-        final String[] segments = fullKey.split("\\.");
+        // Mirrors String.split, which drops trailing empty segments.
+        int keyEnd = fullKey.length();
+        while (keyEnd > 0 && fullKey.charAt(keyEnd - 1) == SEPARATOR) {
+            keyEnd--;
+        }
+        if (keyEnd == 0 && !fullKey.isEmpty()) {
+            // A key consisting only of separators has no segments and addresses the first document.
+            final Iterator<Object> iterator = this.subfiles.iterator();
+            return iterator.hasNext() ? Optional.ofNullable(iterator.next()) : Optional.empty();
+        }
+        return Optional.ofNullable(this.getIndex()
+            .get(fullKey.substring(0, keyEnd)));
+    }
 
-        for (final Object subfile : this.subfiles) {
+    /**
+     * Finds all keys below the given prefix, e.g. all keys below "spring.cloud.gateway.routes".
+     *
+     * @param prefix
+     *            the dotted prefix, which is not included in the result itself
+     * @return the matching keys and their values, sorted by key
+     */
+    public SortedMap<String, Object> getAll(final String prefix) {
+        NavigableMap<String, Object> sorted = this.sortedIndex;
+        if (sorted == null) {
+            sorted = Collections.unmodifiableNavigableMap(new TreeMap<>(this.getIndex()));
+            this.sortedIndex = sorted;
+        }
+        // All keys starting with "prefix." sort between "prefix." and "prefix/".
+        return sorted.subMap(prefix + SEPARATOR, true, prefix + (char) (SEPARATOR + 1), false);
+    }
 
-            boolean failed = false;
-            Object currentNode = subfile;
-            for (final String segment : segments) {
-                final Optional<Object> nextNode = this.load(segment, currentNode);
-                if (nextNode.isEmpty()) {
-                    failed = true;
-                    break;
+    private Map<String, Object> getIndex() {
+        Map<String, Object> currentIndex = this.index;
+        if (currentIndex == null) {
+            synchronized (this) {
+                currentIndex = this.index;
+                if (currentIndex == null) {
+                    currentIndex = new HashMap<>();
+                    for (final Object subfile : this.subfiles) {
+                        flatten(null, subfile, currentIndex, Collections.newSetFromMap(new IdentityHashMap<>()));
+                    }
+                    this.index = currentIndex;
                 }
-                currentNode = nextNode.get();
-            }
-
-            if (!failed) {
-                return Optional.of(currentNode);
             }
         }
-
-        return Optional.empty();
+        return currentIndex;
     }
 
-    private Optional<Object> load(final String key, final Object yamlObject) {
-        if (yamlObject instanceof final Map map) {
-            final Object value = map.get(key);
-            return Optional.ofNullable(value);
+    /**
+     * Adds all keys of the node to the index. The prefix is null for the root node of a document.
+     */
+    private static void flatten(final String prefix, final Object node, final Map<String, Object> index,
+            final Set<Object> ancestors) {
+        if (!(node instanceof final Map<?, ?> map) || !ancestors.add(node)) {
+            return;
+        }
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            // Keys containing the separator and non-string keys can never be addressed.
+            if (!(entry.getKey() instanceof final String key) || key.indexOf(SEPARATOR) >= 0
+                    || entry.getValue() == null) {
+                continue;
+            }
+            final String fullKey = prefix == null ? key : prefix + SEPARATOR + key;
+            // Earlier documents take precedence over later ones.
+            index.putIfAbsent(fullKey, entry.getValue());
+            flatten(fullKey, entry.getValue(), index, ancestors);
         }
-        return Optional.empty();
+        ancestors.remove(node);
     }
-}
\ No newline at end of file
+}
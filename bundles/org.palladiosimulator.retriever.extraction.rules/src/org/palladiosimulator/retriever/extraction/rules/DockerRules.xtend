@@ -6,8 +6,10 @@ import org.eclipse.jdt.core.dom.CompilationUnit
 import java.util.Set
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule
 
-class DockerRules implements Rule {
+class DockerRules implements Rule, SequentialRule, SelectiveRule {
 
 	static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.docker"
 	static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java"
@@ -32,6 +34,10 @@ class DockerRules implements Rule {
 		true
 	}
 
+	override getHandledFileNames() {
+		return Set.of(DOCKER_FILE_NAME)
+	}
+
 	override getConfigurationKeys() {
 		return Set.of
 	}
@@ -25,9 +25,12 @@ import org.palladiosimulator.retriever.extraction.rules.data.GatewayRoute
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector
+import org.palladiosimulator.retriever.extraction.engine.PathPrefixTrie
 
-class EcmaScriptRules implements Rule {
+class EcmaScriptRules implements Rule, SequentialRule, SelectiveRule {
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript"
 
@@ -50,33 +53,15 @@ class EcmaScriptRules implements Rule {
 		val compilationUnit = compilationUnits.get(path)
 		if(compilationUnit === null) return
 
-		var gatewayRouteMap = blackboard.getPartition(GATEWAY_ROUTES_ID) as Map<Path, List<GatewayRoute>>
-		if (gatewayRouteMap === null) {
-			gatewayRouteMap = Map.of
-		}
-		var gatewayRoutes = List.of
-		var Path mostSpecificGatewayPath = null
-		for (gatewayPath : gatewayRouteMap.keySet) {
-			if (gatewayPath !== null && path.startsWith(gatewayPath) &&
-				(mostSpecificGatewayPath === null || gatewayPath.startsWith(mostSpecificGatewayPath))) {
-				gatewayRoutes = gatewayRouteMap.get(gatewayPath)
-				mostSpecificGatewayPath = gatewayPath
-			}
-		}
+		val PathPrefixTrie<List<GatewayRoute>> gatewayRouteMap = PathPrefixTrie.of(
+			blackboard.getPartition(GATEWAY_ROUTES_ID))
+		val gatewayRoutes = gatewayRouteMap.longestPrefixValue(path).orElse(List.of)
 
-		var hostnameMap = Map.of 
+		var PathPrefixTrie<String> hostnameMap = new PathPrefixTrie()
 		if (blackboard.hasPartition(HOSTNAMES_ID)) {
-			hostnameMap = blackboard.getPartition(HOSTNAMES_ID) as Map<Path, String>
-		}
-		var hostname = "API-HOST"
-		var Path mostSpecificHostnamePath = null
-		for (hostnamePath : hostnameMap.keySet) {
-			if (hostnamePath !== null && path.startsWith(hostnamePath) &&
-				(mostSpecificHostnamePath === null || hostnamePath.startsWith(mostSpecificHostnamePath))) {
-				hostname = hostnameMap.get(hostnamePath)
-				mostSpecificHostnamePath = hostnamePath
-			}
+			hostnameMap = PathPrefixTrie.of(blackboard.getPartition(HOSTNAMES_ID))
 		}
+		val hostname = hostnameMap.longestPrefixValue(path).orElse("API-HOST")
 
 		val pcmDetector = blackboard.getPCMDetector as PCMDetector
 		val httpRequests = findAllHttpRequests(blackboard, compilationUnit)
@@ -294,6 +279,10 @@ class EcmaScriptRules implements Rule {
 		return false
 	}
 
+	override getHandledPartitions() {
+		return Set.of(ECMASCRIPT_DISCOVERER_ID)
+	}
+
 	override getConfigurationKeys() {
 		return Set.of
 	}
@@ -6,8 +6,10 @@ import org.eclipse.jdt.core.dom.CompilationUnit
 import java.util.Set
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule
 
-class GradleRules implements Rule {
+class GradleRules implements Rule, SequentialRule, SelectiveRule {
 
 	static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.gradle";
 	static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
@@ -33,6 +35,10 @@ class GradleRules implements Rule {
 		return true
 	}
 
+	override getHandledFileNames() {
+		return Set.of(GRADLE_FILE_NAME)
+	}
+
 	override getConfigurationKeys() {
 		return Set.of
 	}
@@ -1,7 +1,6 @@
 package org.palladiosimulator.retriever.extraction.rules
 
 import java.nio.file.Path
-import java.util.HashMap
 import java.util.List
 import java.util.Map
 import java.util.Set
@@ -9,13 +8,18 @@ import org.jdom2.Document
 import org.palladiosimulator.retriever.extraction.rules.data.GatewayRoute
 import java.util.stream.Collectors
 import org.palladiosimulator.retriever.extraction.rules.util.ProjectHelper
+import org.palladiosimulator.retriever.extraction.engine.PathPrefixTrie
 import java.util.ArrayList
 import org.eclipse.jdt.core.dom.CompilationUnit
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.DirectoryIndex
+import org.palladiosimulator.retriever.extraction.engine.FileIndex
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule
+import org.palladiosimulator.retriever.extraction.engine.SupertypeIndex
 
-class JaxRSDeploymentRules implements Rule {
+class JaxRSDeploymentRules implements Rule, SequentialRule {
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.jax_rs.deployment"
 	public static final String XML_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.xml"
 	public static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
@@ -27,7 +31,7 @@ class JaxRSDeploymentRules implements Rule {
 		// TODO: run only once per project
 		val xmls = blackboard.getDiscoveredFiles(XML_DISCOVERER_ID, typeof(Document))
 
-		var Map<Path, String> hostnames = new HashMap();
+		var Map<Path, String> hostnames = new PathPrefixTrie<String>();
 		if (blackboard.hasPartition(RULE_ID)) {
 			hostnames = blackboard.getPartition(RULE_ID) as Map<Path, String>
 		}
@@ -56,19 +60,15 @@ class JaxRSDeploymentRules implements Rule {
 					routes.add(new GatewayRoute(servletMappings.get(servletName), servletName, true))
 				}
 
-				val nameToPath = new HashMap()
 				val compilationUnits = blackboard.getDiscoveredFiles(JAVA_DISCOVERER_ID, CompilationUnit)
-				for (entry : compilationUnits.entrySet) {
-					val compilationUnitPath = entry.key
-					val compilationUnit = entry.value
-					val types = compilationUnit.types
-					if (!types.empty) {
-						val name = (types.get(0) as AbstractTypeDeclaration).resolveBinding.qualifiedName
-						nameToPath.put(name, compilationUnitPath)
-					}
-				}
+				val supertypes = SupertypeIndex.of(blackboard, JAVA_DISCOVERER_ID)
+				// The index also contains the subclasses of a servlet, so only the declaring unit is kept.
 				for (servlet : servlets.entrySet) {
-					val servletPath = nameToPath.get(servlet.key)
+					val servletPath = supertypes.findImplementingOrExtending(servlet.key).findFirst [ unitPath |
+						val types = compilationUnits.get(unitPath).types
+						!types.empty &&
+							(types.get(0) as AbstractTypeDeclaration).resolveBinding?.qualifiedName == servlet.key
+					]
 					hostnames.put(servletPath, servlet.value)
 				}
 			}
@@ -78,7 +78,8 @@ class JaxRSDeploymentRules implements Rule {
 			blackboard.addPartition(RULE_ID, hostnames)
 		}
 
-		val projectRoot = ProjectHelper.findProjectRoot(path, "pom.xml", "build.gradle")
+		val projectFiles = DirectoryIndex.of(blackboard, FileIndex.PARTITION_ID)
+		val projectRoot = ProjectHelper.findProjectRoot(projectFiles, path, "pom.xml", "build.gradle")
 
 		if (blackboard.hasPartition(ECMASCRIPT_ROUTES_ID)) {
 			val ecmaScriptRouteMap = blackboard.getPartition(ECMASCRIPT_ROUTES_ID) as Map<Path, List<GatewayRoute>>
@@ -88,12 +89,12 @@ class JaxRSDeploymentRules implements Rule {
 				ecmaScriptRouteMap.put(projectRoot, routes)
 			}
 		} else {
-			val routeMap = new HashMap()
+			val routeMap = new PathPrefixTrie<List<GatewayRoute>>()
 			routeMap.put(projectRoot, routes)
 			blackboard.addPartition(ECMASCRIPT_ROUTES_ID, routeMap)
 		}
 
-		var Map<Path, String> hostnameMap = new HashMap<Path, String>()
+		var Map<Path, String> hostnameMap = new PathPrefixTrie<String>()
 		if (blackboard.hasPartition(ECMASCRIPT_HOSTNAMES_ID)) {
 			hostnameMap = blackboard.getPartition(ECMASCRIPT_HOSTNAMES_ID) as Map<Path, String>
 		}
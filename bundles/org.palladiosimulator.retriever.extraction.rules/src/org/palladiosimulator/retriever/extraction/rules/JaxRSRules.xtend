@@ -11,9 +11,11 @@ import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector
+import org.palladiosimulator.retriever.extraction.engine.PathPrefixTrie
 
-class JaxRSRules implements Rule {
+class JaxRSRules implements Rule, SelectiveRule {
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.jax_rs"
 
@@ -29,16 +31,8 @@ class JaxRSRules implements Rule {
 
 		if(unit === null) return;
 
-		val hostnameMap = blackboard.getPartition(DEPLOYMENT_RULE_ID) as Map<Path, String>
-		var hostname = "SERVICE-HOST"
-		var Path mostSpecificHostnamePath = null
-		for (hostnamePath : hostnameMap.keySet) {
-			if (hostnamePath !== null && path.startsWith(hostnamePath) &&
-				(mostSpecificHostnamePath === null || hostnamePath.startsWith(mostSpecificHostnamePath))) {
-				hostname = hostnameMap.get(hostnamePath)
-				mostSpecificHostnamePath = hostnamePath
-			}
-		}
+		val PathPrefixTrie<String> hostnameMap = PathPrefixTrie.of(blackboard.getPartition(DEPLOYMENT_RULE_ID))
+		val hostname = hostnameMap.longestPrefixValue(path).orElse("SERVICE-HOST")
 
 		processRuleForCompUnit(blackboard, unit, hostname)
 	}
@@ -130,6 +124,10 @@ class JaxRSRules implements Rule {
 		return false
 	}
 
+	override getHandledPartitions() {
+		return Set.of(JAVA_DISCOVERER_ID)
+	}
+
 	override getConfigurationKeys() {
 		return Set.of
 	}
@@ -6,8 +6,10 @@ import org.eclipse.jdt.core.dom.CompilationUnit
 import java.util.Set
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule
 
-class MavenRules implements Rule {
+class MavenRules implements Rule, SequentialRule, SelectiveRule {
 
 	static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.maven"
 	static final String JAVA_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.java";
@@ -33,6 +35,10 @@ class MavenRules implements Rule {
 		return true
 	}
 
+	override getHandledFileNames() {
+		return Set.of(MAVEN_FILE_NAME)
+	}
+
 	override getConfigurationKeys() {
 		return Set.of
 	}
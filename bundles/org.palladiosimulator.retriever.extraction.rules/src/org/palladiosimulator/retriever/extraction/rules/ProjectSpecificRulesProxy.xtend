@@ -12,6 +12,13 @@ import javax.tools.ToolProvider
 import org.eclipse.core.runtime.Platform
 import org.eclipse.emf.common.CommonPlugin
 import java.io.IOException
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.security.MessageDigest
+import java.util.HexFormat
+import java.util.List
+import java.util.stream.Collectors
+import org.apache.log4j.Logger
 import org.palladiosimulator.retriever.services.RetrieverConfiguration
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
@@ -21,6 +28,8 @@ class ProjectSpecificRulesProxy implements Rule {
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.project_specific"
 	public static final String LOADED_CLASS_NAME = "org.palladiosimulator.retriever.extraction.rules.ProjectSpecificRules"
 	public static final String RULE_PATH_KEY = "xtend_dir_path"
+	static final String STAMP_FILE_NAME = ".rules.sha256"
+	static final Logger LOG = Logger.getLogger(ProjectSpecificRulesProxy)
 
 	Optional<Rule> innerRule = Optional.empty;
 
@@ -32,8 +41,7 @@ class ProjectSpecificRulesProxy implements Rule {
 			throw new IOException("Could not create intermediate compilation directory at " + xtendGenDirectory);
 		}
 
-		compileXtend(rulesDirectory, xtendGenDirectory)
-		compileJava(xtendGenDirectory)
+		compileIfChanged(rulesDirectory, xtendGenDirectory, findPluginJars())
 
 		val classDirectoryURL = xtendGenDirectory.toURI.toURL
 		val classLoader = new URLClassLoader(#[classDirectoryURL], class.classLoader)
@@ -61,6 +69,26 @@ class ProjectSpecificRulesProxy implements Rule {
 		throw new IllegalArgumentException("No path for project-specific rules is specified");
 	}
 
+	/**
+	 * Compiles the rules unless they were already compiled from the same sources against the same
+	 * plugins. The stamp of a compilation is only written once it succeeded.
+	 * 
+	 * @return whether the rules were compiled
+	 */
+	def compileIfChanged(File rulesDirectory, File xtendGenDirectory, List<File> pluginJars) {
+		val stamp = computeStamp(rulesDirectory, pluginJars)
+		val stampFile = xtendGenDirectory.toPath.resolve(STAMP_FILE_NAME)
+		if (isUpToDate(xtendGenDirectory, stampFile, stamp)) {
+			LOG.info("Reusing project-specific rules compiled to " + xtendGenDirectory)
+			return false
+		}
+		Files.deleteIfExists(stampFile)
+		compileXtend(rulesDirectory, xtendGenDirectory)
+		compileJava(xtendGenDirectory, pluginJars)
+		Files.writeString(stampFile, stamp)
+		return true
+	}
+
 	def compileXtend(File inputDirectory, File outputDirectory) {
 		val compiler = XtendInjectorSingleton.INJECTOR.getInstance(XtendBatchCompiler)
 		compiler.sourcePath = inputDirectory.toString
@@ -72,13 +100,9 @@ class ProjectSpecificRulesProxy implements Rule {
 		}
 	}
 
-	def compileJava(File inOutDirectory) {
-		val sourcePath = inOutDirectory.toPath.resolve("org").resolve("palladiosimulator").resolve("retriever").resolve(
-			"extraction").resolve("rules").resolve("ProjectSpecificRules.java")
-
-		val workingDirectory = new File(Platform.installLocation.URL.path).toPath
-		val jarpath = workingDirectory.resolve("plugins").resolve("*")
-		val classpath = buildClassPath(jarpath.toString)
+	def compileJava(File inOutDirectory, List<File> pluginJars) {
+		val sourcePath = getLoadedClassPath(inOutDirectory, ".java")
+		val classpath = pluginJars.map[absolutePath].join(System.getProperty("path.separator"))
 
 		val compiler = ToolProvider.systemJavaCompiler
 		val fileManager = compiler.getStandardFileManager(null, null, null)
@@ -94,31 +118,55 @@ class ProjectSpecificRulesProxy implements Rule {
 	}
 
 	/**
-	 * This function builds a classpath from the passed Strings
-	 * 
-	 * @param paths classpath elements
-	 * @return returns the complete classpath with wildcards expanded
+	 * @return the jars in the plugins folder of the platform, sorted by name
 	 */
-	def buildClassPath(String... paths) {
-		// Adapted from https://stackoverflow.com/a/22989029
-		val sb = new StringBuilder()
-		for (path : paths) {
-			if (path.endsWith("*")) {
-				val subPath = path.substring(0, path.length - 1)
-				val pathFile = new File(subPath)
-				for (file : pathFile.listFiles) {
-					if (file.isFile && file.name.endsWith(".jar")) {
-						sb.append(subPath)
-						sb.append(file.name)
-						sb.append(System.getProperty("path.separator"))
-					}
-				}
-			} else {
-				sb.append(path)
-				sb.append(System.getProperty("path.separator"))
-			}
+	def List<File> findPluginJars() {
+		val pluginsDirectory = new File(Platform.installLocation.URL.path).toPath.resolve("plugins").toFile
+		val jars = pluginsDirectory.listFiles[file|file.isFile && file.name.endsWith(".jar")]
+		if (jars === null) {
+			return List.of
 		}
-		return sb.toString
+		jars.sortBy[name]
+	}
+
+	/**
+	 * Computes a SHA-256 hash of the paths and contents of all rule sources and of the names, sizes and
+	 * modification times of the plugin jars. The names include the versions of the plugins, the sizes
+	 * and modification times catch jars replaced without a version change.
+	 */
+	def computeStamp(File rulesDirectory, List<File> pluginJars) {
+		val digest = MessageDigest.getInstance("SHA-256")
+		val rulesPath = rulesDirectory.toPath
+		val files = Files.walk(rulesPath)
+		val sources = try {
+			files.filter [ path |
+				Files.isRegularFile(path) && (path.toString.endsWith(".xtend") || path.toString.endsWith(".java"))
+			].sorted.collect(Collectors.toList)
+		} finally {
+			files.close
+		}
+		for (source : sources) {
+			digest.update(rulesPath.relativize(source).toString.getBytes(StandardCharsets.UTF_8))
+			digest.update(0 as byte)
+			digest.update(Files.readAllBytes(source))
+			digest.update(0 as byte)
+		}
+		for (jar : pluginJars) {
+			digest.update(jar.name.getBytes(StandardCharsets.UTF_8))
+			digest.update(0 as byte)
+			digest.update((jar.length + ":" + jar.lastModified).getBytes(StandardCharsets.UTF_8))
+			digest.update(0 as byte)
+		}
+		HexFormat.of.formatHex(digest.digest)
+	}
+
+	def isUpToDate(File xtendGenDirectory, Path stampFile, String stamp) {
+		Files.isRegularFile(stampFile) && Files.readString(stampFile) == stamp &&
+			Files.isRegularFile(getLoadedClassPath(xtendGenDirectory, ".class"))
+	}
+
+	def getLoadedClassPath(File inOutDirectory, String extension) {
+		inOutDirectory.toPath.resolve(LOADED_CLASS_NAME.replace(".", File.separator) + extension)
 	}
 
 	override isBuildRule() {
@@ -4,28 +4,22 @@ import static org.palladiosimulator.retriever.extraction.engine.RuleHelper.*
 import java.nio.file.Path
 import org.eclipse.jdt.core.dom.CompilationUnit
 import java.util.Map;
-import org.jdom2.Document
 import org.apache.log4j.Logger
 import org.eclipse.jdt.core.dom.MethodDeclaration
 import org.eclipse.jdt.core.dom.ITypeBinding
-import java.util.HashMap
-import java.util.List
-import java.util.Properties
 import org.palladiosimulator.retriever.extraction.commonalities.RESTName
 import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod
-import java.util.Optional
 import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName
-import java.util.function.Function
 import java.util.Set
-import org.palladiosimulator.retriever.extraction.rules.util.SpringHelper
+import org.palladiosimulator.retriever.extraction.rules.util.SpringContextCache
 import org.palladiosimulator.retriever.extraction.rules.util.RESTHelper
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName
-import org.palladiosimulator.retriever.extraction.rules.util.ProjectHelper
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule
 import org.palladiosimulator.retriever.extraction.engine.PCMDetector
 
-class SpringRules implements Rule {
+class SpringRules implements Rule, SelectiveRule {
 	static final Logger LOG = Logger.getLogger(SpringRules)
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.spring"
@@ -41,95 +35,10 @@ class SpringRules implements Rule {
 		val unit = blackboard.getDiscoveredFiles(JAVA_DISCOVERER_ID, typeof(CompilationUnit)).get(path)
 		if(unit === null) return;
 
-		val rawYamls = blackboard.getPartition(YAML_DISCOVERER_ID) as Map<Path, Iterable<Map<String, Object>>>
-		val yamlMappers = blackboard.getPartition(YAML_MAPPERS_KEY) as Map<Path, Function<String, Optional<String>>>
-		val poms = blackboard.getDiscoveredFiles(XML_DISCOVERER_ID, typeof(Document))
-		val propertyFiles = blackboard.getDiscoveredFiles(PROPERTIES_DISCOVERER_ID, typeof(Properties))
-
-		val projectRoot = ProjectHelper.findProjectRoot(path, "pom.xml")
-		val configRoot = SpringHelper.findConfigRoot(poms)
-		val bootstrapYaml = projectRoot === null
-				? null
-				: yamlMappers.get(
-				SpringHelper.findFile(yamlMappers.keySet, projectRoot.resolve("src/main/resources"),
-					Set.of("bootstrap.yaml", "bootstrap.yml")))
-		val applicationProperties = projectRoot === null
-				? null
-				: propertyFiles.get(
-				SpringHelper.findFile(propertyFiles.keySet, projectRoot.resolve("src/main/resources"),
-					Set.of("application.properties")))
-
-		var applicationName = SpringHelper.getFromYamlOrProperties("spring.application.name", bootstrapYaml,
-			applicationProperties)
-		if (applicationName === null) {
-			applicationName = "SPRING-APPLICATION"
-		}
-
-		val projectConfigYaml = configRoot === null
-				? null
-				: yamlMappers.get(
-				SpringHelper.findFile(yamlMappers.keySet, configRoot.resolve("src/main/resources/shared"),
-					Set.of(applicationName + ".yaml", applicationName + ".yml")))
-		val contextPathOption = Optional.ofNullable(projectConfigYaml).flatMap[x|x.apply("server.servlet.context-path")]
-		var contextPath = contextPathOption.orElse("/")
-
-		val rawApplicationYaml = projectRoot === null
-				? null
-				: rawYamls.get(
-				SpringHelper.findFile(yamlMappers.keySet, projectRoot.resolve("src/main/resources"),
-					Set.of("application.yaml", "application.yml")))
-		val contextVariables = collectContextVariables(rawApplicationYaml)
-
-		processRuleForCompUnit(blackboard, unit, applicationName, contextPath, contextVariables)
-	}
-
-	def Map<String, String> collectContextVariables(Iterable<Map<String, Object>> applicationYaml) {
-		val result = new HashMap<String, String>();
-		if (applicationYaml === null || applicationYaml.empty) {
-			return result;
-		}
+		val context = SpringContextCache.of(blackboard).contextOf(path)
 
-		return collectContextVariables(applicationYaml.get(0));
-	}
-
-	def Map<String, String> collectContextVariables(Map<String, Object> applicationYaml) {
-		val result = new HashMap<String, String>();
-		if (applicationYaml === null) {
-			return result;
-		}
-
-		for (entry : applicationYaml.entrySet) {
-			if (entry.value instanceof Map) {
-				val mapValue = entry.value as Map<String, Object>;
-				for (mapEntry : collectContextVariables(mapValue).entrySet) {
-					result.put(entry.key + "." + mapEntry.key, mapEntry.value);
-				}
-			} else if (entry.value instanceof List) {
-				val extendedMapValue = entry.value as List<Map<String, Object>>;
-				for (extendedEntry : extendedMapValue) {
-					val extendedKey = extendedEntry.get("key") as String;
-					var extendedValue = extendedEntry.get("value") as String;
-					if (extendedKey !== null && extendedValue !== null) {
-						if (extendedValue.startsWith("${")) {
-							val startIndex = extendedValue.indexOf(":");
-							val endIndex = extendedValue.indexOf("}", startIndex);
-							extendedValue = extendedValue.substring(startIndex + 1, endIndex);
-						}
-						result.put(entry.key + "." + extendedKey, extendedValue);
-					}
-				}
-			} else if (entry.value instanceof String) {
-				var stringValue = entry.value as String;
-				if (stringValue.startsWith("${")) {
-					val startIndex = stringValue.indexOf(":");
-					val endIndex = stringValue.indexOf("}", startIndex);
-					stringValue = stringValue.substring(startIndex + 1, endIndex);
-				}
-				result.put(entry.key, stringValue);
-			}
-		}
-
-		return result;
+		processRuleForCompUnit(blackboard, unit, context.applicationNameOrDefault, context.contextPath,
+			context.contextVariables)
 	}
 
 	def processRuleForCompUnit(RetrieverBlackboard blackboard, CompilationUnit unit, String applicationName,
@@ -356,6 +265,10 @@ class SpringRules implements Rule {
 		return false
 	}
 
+	override getHandledPartitions() {
+		return Set.of(JAVA_DISCOVERER_ID)
+	}
+
 	override getConfigurationKeys() {
 		return Set.of
 	}
@@ -2,22 +2,18 @@ package org.palladiosimulator.retriever.extraction.rules
 
 import java.nio.file.Path
 import java.util.ArrayList
-import java.util.HashMap
 import java.util.List
 import java.util.Map
-import java.util.Optional
-import java.util.Properties
 import java.util.Set
-import java.util.function.Function
 import org.apache.log4j.Logger
-import org.jdom2.Document
-import org.palladiosimulator.retriever.extraction.rules.util.SpringHelper
+import org.palladiosimulator.retriever.extraction.rules.util.SpringContextCache
 import org.palladiosimulator.retriever.extraction.rules.data.GatewayRoute
-import org.palladiosimulator.retriever.extraction.rules.util.ProjectHelper
+import org.palladiosimulator.retriever.extraction.engine.PathPrefixTrie
 import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
 import org.palladiosimulator.retriever.services.Rule
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule
 
-class SpringZuulRules implements Rule {
+class SpringZuulRules implements Rule, SequentialRule {
 	static final Logger LOG = Logger.getLogger(SpringZuulRules)
 
 	public static final String RULE_ID = "org.palladiosimulator.retriever.extraction.rules.spring.zuul"
@@ -30,19 +26,15 @@ class SpringZuulRules implements Rule {
 	public static final String ECMASCRIPT_HOSTNAMES_ID = "org.palladiosimulator.retriever.extraction.rules.ecmascript.hostnames"
 
 	override processRules(RetrieverBlackboard blackboard, Path path) {
-		val rawYamls = blackboard.getPartition(YAML_DISCOVERER_ID) as Map<Path, Iterable<Map<String, Object>>>
-		val yamlMappers = blackboard.getPartition(YAML_MAPPERS_KEY) as Map<Path, Function<String, Optional<String>>>
-		val poms = blackboard.getDiscoveredFiles(XML_DISCOVERER_ID, typeof(Document))
-		val propertyFiles = blackboard.getDiscoveredFiles(PROPERTIES_DISCOVERER_ID, typeof(Properties))
-
-		val projectRoot = ProjectHelper.findProjectRoot(path, "pom.xml")
-		val configRoot = SpringHelper.findConfigRoot(poms)
+		val contexts = SpringContextCache.of(blackboard)
+		val projectRoot = contexts.findProjectRoot(path)
+		val configRoot = contexts.configRoot
 
 		if (configRoot === null) {
 			return
 		}
 
-		var Map<Path, List<GatewayRoute>> routeMap = new HashMap<Path, List<GatewayRoute>>()
+		var Map<Path, List<GatewayRoute>> routeMap = new PathPrefixTrie<List<GatewayRoute>>()
 		if (blackboard.hasPartition(RULE_ID)) {
 			routeMap = blackboard.getPartition(RULE_ID) as Map<Path, List<GatewayRoute>>
 		}
@@ -50,23 +42,9 @@ class SpringZuulRules implements Rule {
 		// Execute only once for each Spring application/service
 		if(projectRoot !== null && routeMap.containsKey(projectRoot)) return
 
-		val bootstrapYaml = projectRoot === null
-				? null
-				: yamlMappers.get(
-				SpringHelper.findFile(yamlMappers.keySet, projectRoot.resolve("src/main/resources"),
-					Set.of("bootstrap.yaml", "bootstrap.yml")))
-		val applicationProperties = projectRoot === null
-				? null
-				: propertyFiles.get(
-				SpringHelper.findFile(propertyFiles.keySet, projectRoot.resolve("src/main/resources"),
-					Set.of("application.properties")))
-		val applicationName = SpringHelper.getFromYamlOrProperties("spring.application.name", bootstrapYaml,
-			applicationProperties)
-		val projectConfigYaml = configRoot === null
-				? null
-				: rawYamls.get(
-				SpringHelper.findFile(rawYamls.keySet, configRoot.resolve("src/main/resources/shared"),
-					Set.of(applicationName + ".yaml", applicationName + ".yml")))
+		val context = contexts.contextOf(path)
+		val applicationName = context.applicationName
+		val projectConfigYaml = context.projectConfigYaml
 
 		// Query zuul.routes in config server only (for now)
 		val routes = collectRoutes(projectConfigYaml)
@@ -92,7 +70,7 @@ class SpringZuulRules implements Rule {
 		}
 
 		if (applicationName !== null) {
-			var Map<Path, String> hostnameMap = new HashMap<Path, String>()
+			var Map<Path, String> hostnameMap = new PathPrefixTrie<String>()
 			if (blackboard.hasPartition(ECMASCRIPT_HOSTNAMES_ID)) {
 				hostnameMap = blackboard.getPartition(ECMASCRIPT_HOSTNAMES_ID) as Map<Path, String>
 			}
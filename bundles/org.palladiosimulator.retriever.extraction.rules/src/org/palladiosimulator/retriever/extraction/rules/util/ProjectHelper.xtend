@@ -4,6 +4,7 @@ import java.nio.file.Path
 import java.util.Map
 import org.jdom2.Document
 import java.nio.file.Files
+import org.palladiosimulator.retriever.extraction.engine.DirectoryIndex
 
 class ProjectHelper {
 	static def findProjectRoot(Path pathInProject, String... projectFileNames) {
@@ -21,4 +22,12 @@ class ProjectHelper {
 		}
 		return null
 	}
+
+	/**
+	 * Like {@link #findProjectRoot(Path, String...)}, but looks the project files up in the index
+	 * where possible.
+	 */
+	static def findProjectRoot(DirectoryIndex index, Path pathInProject, String... projectFileNames) {
+		index.findProjectRoot(pathInProject, projectFileNames)
+	}
 }
@@ -0,0 +1,105 @@
+package org.palladiosimulator.retriever.extraction.rules.util
+
+import java.nio.file.Path
+import java.util.Map
+import java.util.Optional
+import java.util.Properties
+import java.util.Set
+import java.util.function.Function
+import org.palladiosimulator.retriever.extraction.engine.DirectoryIndex
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
+
+/**
+ * The configuration shared by all files of one Spring application. It is computed once per project
+ * root, see {@link SpringContextCache}.
+ */
+class SpringContext {
+	public static final String DEFAULT_APPLICATION_NAME = "SPRING-APPLICATION"
+	static final String YAML_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.yaml"
+	static final String YAML_MAPPERS_KEY = YAML_DISCOVERER_ID + ".mappers"
+	static final String PROPERTIES_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.properties"
+
+	val Path projectRoot
+	val Path configRoot
+	val String applicationName
+	val Iterable<Map<String, Object>> applicationYaml
+	val Iterable<Map<String, Object>> projectConfigYaml
+	val String contextPath
+	val Map<String, String> contextVariables
+
+	new(RetrieverBlackboard blackboard, Path projectRoot, Path configRoot) {
+		val rawYamls = blackboard.getPartition(YAML_DISCOVERER_ID) as Map<Path, Iterable<Map<String, Object>>>
+		val yamlMappers = blackboard.getPartition(YAML_MAPPERS_KEY) as Map<Path, Function<String, Optional<String>>>
+		val propertyFiles = blackboard.getDiscoveredFiles(PROPERTIES_DISCOVERER_ID, typeof(Properties))
+		val yamlDirectories = DirectoryIndex.of(blackboard, YAML_DISCOVERER_ID)
+		val yamlMapperDirectories = DirectoryIndex.of(blackboard, YAML_MAPPERS_KEY)
+		val propertyDirectories = DirectoryIndex.of(blackboard, PROPERTIES_DISCOVERER_ID)
+
+		this.projectRoot = projectRoot
+		this.configRoot = configRoot
+
+		val bootstrapYaml = projectRoot === null
+				? null
+				: yamlMappers.get(
+				SpringHelper.findFile(yamlMapperDirectories, projectRoot.resolve("src/main/resources"),
+					Set.of("bootstrap.yaml", "bootstrap.yml")))
+		val applicationProperties = projectRoot === null
+				? null
+				: propertyFiles.get(
+				SpringHelper.findFile(propertyDirectories, projectRoot.resolve("src/main/resources"),
+					Set.of("application.properties")))
+		this.applicationName = SpringHelper.getFromYamlOrProperties("spring.application.name", bootstrapYaml,
+			applicationProperties)
+
+		this.applicationYaml = projectRoot === null
+				? null
+				: rawYamls.get(
+				SpringHelper.findFile(yamlMapperDirectories, projectRoot.resolve("src/main/resources"),
+					Set.of("application.yaml", "application.yml")))
+		this.contextVariables = SpringHelper.collectContextVariables(applicationYaml)
+
+		val configName = applicationName ?: DEFAULT_APPLICATION_NAME
+		val projectConfigMapper = configRoot === null
+				? null
+				: yamlMappers.get(
+				SpringHelper.findFile(yamlMapperDirectories, configRoot.resolve("src/main/resources/shared"),
+					Set.of(configName + ".yaml", configName + ".yml")))
+		this.contextPath = Optional.ofNullable(projectConfigMapper).flatMap [ x |
+			x.apply("server.servlet.context-path")
+		].orElse("/")
+		this.projectConfigYaml = configRoot === null || applicationName === null
+				? null
+				: rawYamls.get(
+				SpringHelper.findFile(yamlDirectories, configRoot.resolve("src/main/resources/shared"),
+					Set.of(applicationName + ".yaml", applicationName + ".yml")))
+	}
+
+	def getProjectRoot() { projectRoot }
+
+	def getConfigRoot() { configRoot }
+
+	/**
+	 * @return the configured application name, or {@code null} if there is none
+	 */
+	def getApplicationName() { applicationName }
+
+	/**
+	 * @return the configured application name, or {@link #DEFAULT_APPLICATION_NAME} if there is none
+	 */
+	def getApplicationNameOrDefault() { applicationName ?: DEFAULT_APPLICATION_NAME }
+
+	/**
+	 * @return the raw application.yaml of the project, or {@code null} if there is none
+	 */
+	def getApplicationYaml() { applicationYaml }
+
+	/**
+	 * @return the raw YAML of the application in the shared folder of the config server, or
+	 *         {@code null} if there is none or the application has no name
+	 */
+	def getProjectConfigYaml() { projectConfigYaml }
+
+	def getContextPath() { contextPath }
+
+	def getContextVariables() { contextVariables }
+}
@@ -0,0 +1,77 @@
+package org.palladiosimulator.retriever.extraction.rules.util
+
+import java.nio.file.Path
+import java.util.Map
+import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
+import org.jdom2.Document
+import org.palladiosimulator.retriever.extraction.engine.DirectoryIndex
+import org.palladiosimulator.retriever.extraction.engine.FileIndex
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard
+
+/**
+ * Caches the project root of each directory and the {@link SpringContext} of each project root.
+ * The cache is shared via the blackboard, so all Spring rules resolve the configuration of a
+ * Spring application only once.
+ */
+class SpringContextCache {
+	public static final String PARTITION_ID = "org.palladiosimulator.retriever.extraction.rules.spring.contexts"
+	static final String XML_DISCOVERER_ID = "org.palladiosimulator.retriever.extraction.discoverers.xml"
+	static final String PROJECT_FILE_NAME = "pom.xml"
+
+	val RetrieverBlackboard blackboard
+	val Path configRoot
+	val DirectoryIndex files
+	val Map<Path, Optional<Path>> projectRoots = new ConcurrentHashMap
+	val Map<Optional<Path>, SpringContext> contexts = new ConcurrentHashMap
+
+	new(RetrieverBlackboard blackboard) {
+		this.blackboard = blackboard
+		this.configRoot = SpringHelper.findConfigRoot(blackboard.getDiscoveredFiles(XML_DISCOVERER_ID, typeof(Document)))
+		this.files = DirectoryIndex.of(blackboard, FileIndex.PARTITION_ID)
+	}
+
+	/**
+	 * Returns the cache from the blackboard. If there is none yet, it is created and put on the
+	 * blackboard.
+	 */
+	static def of(RetrieverBlackboard blackboard) {
+		synchronized (blackboard) {
+			if (blackboard.hasPartition(PARTITION_ID)) {
+				return blackboard.getPartition(PARTITION_ID) as SpringContextCache
+			}
+			val cache = new SpringContextCache(blackboard)
+			blackboard.addPartition(PARTITION_ID, cache)
+			return cache
+		}
+	}
+
+	/**
+	 * @return the config server project shared by all Spring applications, or {@code null} if there
+	 *         is none
+	 */
+	def getConfigRoot() { configRoot }
+
+	/**
+	 * @return the closest ancestor of the path containing a pom.xml, or {@code null} if there is none
+	 */
+	def Path findProjectRoot(Path path) {
+		if (path === null || path.parent === null) {
+			return ProjectHelper.findProjectRoot(files, path, PROJECT_FILE_NAME)
+		}
+		// The project root only depends on the directory of the path.
+		projectRoots.computeIfAbsent(path.parent, [
+			Optional.ofNullable(ProjectHelper.findProjectRoot(files, path, PROJECT_FILE_NAME))
+		]).orElse(null)
+	}
+
+	/**
+	 * @return the context of the Spring application the path belongs to
+	 */
+	def SpringContext contextOf(Path path) {
+		val projectRoot = findProjectRoot(path)
+		contexts.computeIfAbsent(Optional.ofNullable(projectRoot), [
+			new SpringContext(blackboard, projectRoot, configRoot)
+		])
+	}
+}
@@ -1,6 +1,8 @@
 package org.palladiosimulator.retriever.extraction.rules.util
 
 import java.nio.file.Path
+import java.util.HashMap
+import java.util.List
 import java.util.Map
 import java.util.Optional
 import java.util.Properties
@@ -9,6 +11,7 @@ import java.util.function.Function
 import java.util.stream.Collectors
 import org.jdom2.Document
 import org.apache.log4j.Logger
+import org.palladiosimulator.retriever.extraction.engine.DirectoryIndex
 
 final class SpringHelper {
 	static final Logger LOG = Logger.getLogger(SpringHelper)
@@ -61,6 +64,24 @@ final class SpringHelper {
 		return candidates.get(0)
 	}
 
+	static def findFile(DirectoryIndex index, Path directory, Set<String> possibleNames) {
+		if (index === null || directory === null || possibleNames === null) {
+			return null
+		}
+		val candidates = index.findFiles(directory, possibleNames)
+
+		if (candidates.size > 1) {
+			// fileName must exist since candidates were found
+			val fileName = possibleNames.iterator.next;
+			LOG.warn(
+				"Multiple " + fileName + " in " + directory + ", choosing " + directory.relativize(candidates.get(0)) +
+					" arbitrarily")
+		} else if (candidates.empty) {
+			return null
+		}
+		return candidates.get(0)
+	}
+
 	static def getFromYamlOrProperties(String key, Function<String, Optional<String>> yamlMapper,
 		Properties properties) {
 		if (yamlMapper !== null) {
@@ -76,4 +97,53 @@ final class SpringHelper {
 
 		return null
 	}
+
+	static def Map<String, String> collectContextVariables(Iterable<Map<String, Object>> applicationYaml) {
+		val result = new HashMap<String, String>();
+		if (applicationYaml === null || applicationYaml.empty) {
+			return result;
+		}
+
+		return collectContextVariables(applicationYaml.get(0));
+	}
+
+	static def Map<String, String> collectContextVariables(Map<String, Object> applicationYaml) {
+		val result = new HashMap<String, String>();
+		if (applicationYaml === null) {
+			return result;
+		}
+
+		for (entry : applicationYaml.entrySet) {
+			if (entry.value instanceof Map) {
+				val mapValue = entry.value as Map<String, Object>;
+				for (mapEntry : collectContextVariables(mapValue).entrySet) {
+					result.put(entry.key + "." + mapEntry.key, mapEntry.value);
+				}
+			} else if (entry.value instanceof List) {
+				val extendedMapValue = entry.value as List<Map<String, Object>>;
+				for (extendedEntry : extendedMapValue) {
+					val extendedKey = extendedEntry.get("key") as String;
+					var extendedValue = extendedEntry.get("value") as String;
+					if (extendedKey !== null && extendedValue !== null) {
+						if (extendedValue.startsWith("${")) {
+							val startIndex = extendedValue.indexOf(":");
+							val endIndex = extendedValue.indexOf("}", startIndex);
+							extendedValue = extendedValue.substring(startIndex + 1, endIndex);
+						}
+						result.put(entry.key + "." + extendedKey, extendedValue);
+					}
+				}
+			} else if (entry.value instanceof String) {
+				var stringValue = entry.value as String;
+				if (stringValue.startsWith("${")) {
+					val startIndex = stringValue.indexOf(":");
+					val endIndex = stringValue.indexOf("}", startIndex);
+					stringValue = stringValue.substring(startIndex + 1, endIndex);
+				}
+				result.put(entry.key, stringValue);
+			}
+		}
+
+		return result;
+	}
 }
@@ -34,6 +34,11 @@ public class ComponentBuilder {
 
     public Component create(final Collection<OperationInterface> allDependencies,
             final Collection<OperationInterface> visibleProvisions) {
+        return this.create(allDependencies, new VisibleProvisions(visibleProvisions));
+    }
+
+    public Component create(final Collection<OperationInterface> allDependencies,
+            final VisibleProvisions visibleProvisions) {
         return new Component(this.compUnitOrName, this.requirements.create(allDependencies, visibleProvisions),
                 this.provisions.create(allDependencies));
     }
@@ -0,0 +1,64 @@
+package org.palladiosimulator.retriever.extraction.commonalities;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The bipartite graph between components and the interfaces they provide or require. It finds the
+ * neighbors of an interface, i.e. the components providing or requiring a part of it, without
+ * comparing it to every component.
+ * <p>
+ * The graph is immutable once built, so it can be shared by {@code CompositeBuilder}s constructing
+ * their composites concurrently.
+ *
+ * @see CompositeBuilder#construct(ComponentGraph, Requirements, Provisions, VisibleProvisions)
+ */
+public class ComponentGraph {
+    private final Set<Component> components;
+    private final InterfaceIndex<Component> providers;
+    private final InterfaceIndex<Component> requirers;
+
+    public ComponentGraph(final Collection<Component> components) {
+        this.components = Collections.unmodifiableSet(new HashSet<>(components));
+        this.providers = new InterfaceIndex<>();
+        this.requirers = new InterfaceIndex<>();
+
+        for (final Component component : this.components) {
+            for (final OperationInterface provision : component.provisions()) {
+                this.providers.put(provision, component);
+            }
+            for (final OperationInterface requirement : component.requirements()) {
+                this.requirers.put(requirement, component);
+            }
+        }
+    }
+
+    public Set<Component> getComponents() {
+        return this.components;
+    }
+
+    /**
+     * Finds the components providing a part of the given interface.
+     */
+    public Set<Component> findProviders(final OperationInterface iface) {
+        return this.providers.findDescendants(iface)
+            .stream()
+            .filter(x -> x.provisions()
+                .containsPartOf(iface))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Finds the components requiring a part of the given interface.
+     */
+    public Set<Component> findRequirers(final OperationInterface iface) {
+        return this.requirers.findDescendants(iface)
+            .stream()
+            .filter(x -> x.requirements()
+                .containsPartOf(iface))
+            .collect(Collectors.toSet());
+    }
+}
@@ -27,22 +27,32 @@ public class CompositeBuilder {
         this.name = name;
     }
 
-    public void addPart(final ComponentBuilder componentBuilder) {
+    public synchronized void addPart(final ComponentBuilder componentBuilder) {
         this.explicitParts.add(componentBuilder);
     }
 
-    public boolean hasPart(final CompUnitOrName identifier) {
+    public synchronized boolean hasPart(final CompUnitOrName identifier) {
         return this.explicitParts.stream()
             .anyMatch(part -> part.identifier()
                 .equals(identifier));
     }
 
-    public Collection<ComponentBuilder> getParts() {
+    public synchronized Collection<ComponentBuilder> getParts() {
         return Set.copyOf(this.explicitParts);
     }
 
     public Composite construct(final Collection<Component> allComponents, final Requirements compositeRequirements,
             final Provisions compositeProvisions, final Collection<OperationInterface> visibleProvisions) {
+        return this.construct(new ComponentGraph(allComponents), compositeRequirements, compositeProvisions,
+                new VisibleProvisions(visibleProvisions));
+    }
+
+    /**
+     * Constructs the composite from a graph of all components. Neither the graph nor the components
+     * are modified, so several composites may be constructed from the same graph concurrently.
+     */
+    public Composite construct(final ComponentGraph graph, final Requirements compositeRequirements,
+            final Provisions compositeProvisions, final VisibleProvisions visibleProvisions) {
         Logger.getLogger(this.getClass())
             .warn("Constructing composite component " + this.name);
 
@@ -59,7 +69,7 @@ public class CompositeBuilder {
             .map(x -> x.create(allDependencies, visibleProvisions))
             .collect(Collectors.toSet());
 
-        final Set<Component> remainingComponents = new HashSet<>(allComponents);
+        final Set<Component> remainingComponents = new HashSet<>(graph.getComponents());
         remainingComponents.removeAll(parts);
         final Set<OperationInterface> internalInterfaces = new HashSet<>();
 
@@ -69,9 +79,9 @@ public class CompositeBuilder {
             previousPartCount = parts.size();
             previousInternalInterfaceCount = internalInterfaces.size();
 
-            propagateRequirements(remainingComponents, compositeRequirements, compositeProvisions, parts,
+            propagateRequirements(graph, remainingComponents, compositeRequirements, compositeProvisions, parts,
                     internalInterfaces);
-            propagateProvisions(remainingComponents, compositeRequirements, compositeProvisions, parts,
+            propagateProvisions(graph, remainingComponents, compositeRequirements, compositeProvisions, parts,
                     internalInterfaces);
         } while (parts.size() > previousPartCount && internalInterfaces.size() > previousInternalInterfaceCount);
 
@@ -82,8 +92,13 @@ public class CompositeBuilder {
         for (final Component part : parts) {
             requirements.addAll(part.requirements()
                 .get());
-            provisions.add(part.provisions()
-                .getGrouped());
+            // MapMerger merges into the given lists. Parts are shared with other composites, so
+            // their groups must not be modified.
+            final Map<OperationInterface, List<OperationInterface>> groupedProvisions = new HashMap<>();
+            part.provisions()
+                .getGrouped()
+                .forEach((root, members) -> groupedProvisions.put(root, new ArrayList<>(members)));
+            provisions.add(groupedProvisions);
             partNames.add(part.name());
         }
 
@@ -135,13 +150,13 @@ public class CompositeBuilder {
     }
 
     // Writes to remainingComopnents, parts, and internalInterfaces.
-    private static void propagateProvisions(final Set<Component> remainingComponents,
+    private static void propagateProvisions(final ComponentGraph graph, final Set<Component> remainingComponents,
             final Requirements compositeRequirements, final Provisions compositeProvisions, final Set<Component> parts,
             final Set<OperationInterface> internalInterfaces) {
 
         final List<Component> newParts = new LinkedList<>();
         for (final Component providingPart : parts) {
-            final List<OperationInterface> traversedInterfaces = findRequiringComponents(remainingComponents,
+            final List<OperationInterface> traversedInterfaces = findRequiringComponents(graph, remainingComponents,
                     compositeRequirements, compositeProvisions, newParts, providingPart);
 
             final Queue<OperationInterface> sortedInterfaces = new PriorityQueue<>(traversedInterfaces);
@@ -168,13 +183,13 @@ public class CompositeBuilder {
     }
 
     // Writes to remainingComopnents, parts, and internalInterfaces.
-    private static void propagateRequirements(final Set<Component> remainingComponents,
+    private static void propagateRequirements(final ComponentGraph graph, final Set<Component> remainingComponents,
             final Requirements compositeRequirements, final Provisions compositeProvisions, final Set<Component> parts,
             final Set<OperationInterface> internalInterfaces) {
 
         final List<Component> newParts = new LinkedList<>();
         for (final Component requiringPart : parts) {
-            final List<OperationInterface> traversedInterfaces = findProvidingComponents(remainingComponents,
+            final List<OperationInterface> traversedInterfaces = findProvidingComponents(graph, remainingComponents,
                     compositeRequirements, compositeProvisions, newParts, requiringPart);
 
             final Queue<OperationInterface> sortedInterfaces = new PriorityQueue<>(traversedInterfaces);
@@ -201,9 +216,9 @@ public class CompositeBuilder {
     }
 
     // May remove components from remainingComponents.
-    private static List<OperationInterface> findRequiringComponents(final Set<Component> remainingComponents,
-            final Requirements compositeRequirements, final Provisions compositeProvisions,
-            final List<Component> newParts, final Component providingComponent) {
+    private static List<OperationInterface> findRequiringComponents(final ComponentGraph graph,
+            final Set<Component> remainingComponents, final Requirements compositeRequirements,
+            final Provisions compositeProvisions, final List<Component> newParts, final Component providingComponent) {
 
         final Stack<OperationInterface> provisions = new Stack<>();
         providingComponent.provisions()
@@ -218,9 +233,9 @@ public class CompositeBuilder {
         final List<OperationInterface> traversedOperations = new ArrayList<>();
         while (!provisions.isEmpty()) {
             final OperationInterface provision = provisions.pop();
-            final Set<Component> requiringComponents = remainingComponents.stream()
-                .filter(x -> x.requirements()
-                    .containsPartOf(provision))
+            final Set<Component> requiringComponents = graph.findRequirers(provision)
+                .stream()
+                .filter(remainingComponents::contains)
                 .filter(x -> !providingComponent.equals(x))
                 .collect(Collectors.toSet());
 
@@ -236,9 +251,9 @@ public class CompositeBuilder {
     }
 
     // May remove components from remainingComponents.
-    private static List<OperationInterface> findProvidingComponents(final Set<Component> remainingComponents,
-            final Requirements compositeRequirements, final Provisions compositeProvisions,
-            final List<Component> newParts, final Component requiringComponent) {
+    private static List<OperationInterface> findProvidingComponents(final ComponentGraph graph,
+            final Set<Component> remainingComponents, final Requirements compositeRequirements,
+            final Provisions compositeProvisions, final List<Component> newParts, final Component requiringComponent) {
 
         final Stack<OperationInterface> requirements = new Stack<>();
         requiringComponent.requirements()
@@ -253,9 +268,9 @@ public class CompositeBuilder {
         final List<OperationInterface> traversedOperations = new ArrayList<>();
         while (!requirements.isEmpty()) {
             final OperationInterface requirement = requirements.pop();
-            final Set<Component> providingComponents = remainingComponents.stream()
-                .filter(x -> x.provisions()
-                    .containsPartOf(requirement))
+            final Set<Component> providingComponents = graph.findProviders(requirement)
+                .stream()
+                .filter(remainingComponents::contains)
                 .filter(x -> !requiringComponent.equals(x))
                 .collect(Collectors.toSet());
 
@@ -30,11 +30,14 @@ public final class DependencyUtils {
             final Collection<T> dependencies, final Collection<OperationInterface> allDependencies) {
         final Map<OperationInterface, List<OperationInterface>> groupedDependencies = new HashMap<>();
         final Queue<OperationInterface> sortedDependencies = new PriorityQueue<>(dependencies);
+        final RootIndex roots = new RootIndex(groupedDependencies);
+        final InterfaceIndex<OperationInterface> foreignDependencies = indexForeignDependencies(dependencies,
+                allDependencies);
 
         while (!sortedDependencies.isEmpty()) {
             final OperationInterface grouplessDependency = sortedDependencies.poll();
             boolean isRoot = true;
-            for (final OperationInterface rootInterface : groupedDependencies.keySet()) {
+            for (final OperationInterface rootInterface : roots.findContainingRoots(grouplessDependency)) {
                 if (grouplessDependency.isPartOf(rootInterface)) {
                     groupedDependencies.get(rootInterface)
                         .add(grouplessDependency);
@@ -43,7 +46,7 @@ public final class DependencyUtils {
                 }
             }
             if (isRoot) {
-                for (final OperationInterface rootInterface : groupedDependencies.keySet()) {
+                for (final OperationInterface rootInterface : roots.findRelatedRoots(grouplessDependency)) {
                     final Optional<String> commonName = grouplessDependency.getName()
                         .getCommonInterface(rootInterface.getName());
                     boolean containsOtherDependency = false;
@@ -62,14 +65,11 @@ public final class DependencyUtils {
                         commonInterface = new EntireInterface(commonInterfaceName);
                     }
 
-                    for (final OperationInterface dependency : allDependencies) {
-                        // Check all foreign dependencies
-                        if (!dependencies.contains(dependency)) {
-                            // If a foreign dependency is part of the new common interface, it must
-                            // not be created
-                            containsOtherDependency |= dependency.isPartOf(commonInterface)
-                                    && !commonInterface.isPartOf(dependency);
-                        }
+                    for (final OperationInterface dependency : foreignDependencies.findDescendants(commonInterface)) {
+                        // If a foreign dependency is part of the new common interface, it must
+                        // not be created
+                        containsOtherDependency |= dependency.isPartOf(commonInterface)
+                                && !commonInterface.isPartOf(dependency);
                     }
 
                     if (!containsOtherDependency) {
@@ -84,6 +84,7 @@ public final class DependencyUtils {
                         }
                         interfaces.add(grouplessDependency);
                         groupedDependencies.put(commonInterface, new ArrayList<>(interfaces));
+                        roots.add(commonInterface);
                         isRoot = false;
                         break;
                     }
@@ -93,9 +94,129 @@ public final class DependencyUtils {
                 groupedDependencies.put(grouplessDependency, new LinkedList<>());
                 groupedDependencies.get(grouplessDependency)
                     .add(grouplessDependency);
+                roots.add(grouplessDependency);
             }
         }
         return groupedDependencies;
     }
 
+    private static InterfaceIndex<OperationInterface> indexForeignDependencies(
+            final Collection<? extends OperationInterface> dependencies,
+            final Collection<OperationInterface> allDependencies) {
+        final Set<OperationInterface> ownDependencies = new HashSet<>(dependencies);
+        final InterfaceIndex<OperationInterface> foreignDependencies = new InterfaceIndex<>();
+        for (final OperationInterface dependency : allDependencies) {
+            if (!ownDependencies.contains(dependency)) {
+                foreignDependencies.put(dependency, dependency);
+            }
+        }
+        return foreignDependencies;
+    }
+
+    /**
+     * Finds the group roots a dependency may be added to or merged with, without comparing it to
+     * every root. Roots are returned in the iteration order of the groups, so that the first
+     * matching root is the same one a scan over all groups would find.
+     */
+    private static final class RootIndex {
+        private final Map<OperationInterface, List<OperationInterface>> groups;
+        private final InterfaceIndex<OperationInterface> containingRoots = new InterfaceIndex<>();
+        // Roots by the interfaces of their names. The host roots of REST names are shared by all
+        // names of a host, but only relate REST names to REST operation names. They are kept apart.
+        private final Map<String, Set<OperationInterface>> byInterface = new HashMap<>();
+        private final Map<String, Set<OperationInterface>> restNamesByHost = new HashMap<>();
+        private final Map<String, Set<OperationInterface>> restOperationNamesByHost = new HashMap<>();
+        private final Map<String, Set<OperationInterface>> restOperationNamesByPath = new HashMap<>();
+
+        RootIndex(final Map<OperationInterface, List<OperationInterface>> groups) {
+            this.groups = groups;
+        }
+
+        void add(final OperationInterface root) {
+            this.containingRoots.put(root, root);
+            final Name name = root.getName();
+            final List<String> interfaces = name.getInterfaces();
+            if (!isREST(name)) {
+                interfaces.forEach(iface -> put(this.byInterface, iface, root));
+                return;
+            }
+            interfaces.subList(0, interfaces.size() - 1)
+                .forEach(iface -> put(this.byInterface, iface, root));
+            final String hostRoot = interfaces.get(interfaces.size() - 1);
+            if (name instanceof RESTOperationName restOperationName) {
+                put(this.restOperationNamesByHost, hostRoot, root);
+                put(this.restOperationNamesByPath, restOperationName.getRESTName()
+                    .toString(), root);
+            } else {
+                put(this.restNamesByHost, hostRoot, root);
+            }
+        }
+
+        /**
+         * @return the roots the dependency may be part of
+         */
+        List<OperationInterface> findContainingRoots(final OperationInterface dependency) {
+            return this.inGroupOrder(this.containingRoots.findAncestors(dependency));
+        }
+
+        /**
+         * @return the roots the dependency may have a common interface with
+         */
+        List<OperationInterface> findRelatedRoots(final OperationInterface dependency) {
+            final Name name = dependency.getName();
+            final List<String> interfaces = name.getInterfaces();
+            final Set<OperationInterface> candidates = new HashSet<>();
+            for (final String iface : interfaces) {
+                candidates.addAll(this.byInterface.getOrDefault(iface, Set.of()));
+            }
+            if (!isREST(name)) {
+                for (final String iface : interfaces) {
+                    candidates.addAll(this.restNamesByHost.getOrDefault(iface, Set.of()));
+                    candidates.addAll(this.restOperationNamesByHost.getOrDefault(iface, Set.of()));
+                }
+            } else {
+                final String hostRoot = interfaces.get(interfaces.size() - 1);
+                if (name instanceof RESTOperationName restOperationName) {
+                    candidates.addAll(this.restNamesByHost.getOrDefault(hostRoot, Set.of()));
+                    candidates.addAll(this.restOperationNamesByPath.getOrDefault(restOperationName.getRESTName()
+                        .toString(), Set.of()));
+                } else {
+                    candidates.addAll(this.restOperationNamesByHost.getOrDefault(hostRoot, Set.of()));
+                }
+            }
+            return this.inGroupOrder(candidates);
+        }
+
+        private List<OperationInterface> inGroupOrder(final Set<OperationInterface> candidates) {
+            final List<OperationInterface> roots = new ArrayList<>();
+            for (final OperationInterface candidate : candidates) {
+                // Roots are never removed from the index, only from the groups.
+                if (this.groups.containsKey(candidate)) {
+                    roots.add(candidate);
+                }
+            }
+            if (roots.size() <= 1) {
+                return roots;
+            }
+            final Set<OperationInterface> currentCandidates = new HashSet<>(roots);
+            roots.clear();
+            for (final OperationInterface root : this.groups.keySet()) {
+                if (currentCandidates.contains(root)) {
+                    roots.add(root);
+                }
+            }
+            return roots;
+        }
+
+        private static boolean isREST(final Name name) {
+            return name instanceof RESTName || name instanceof RESTOperationName;
+        }
+
+        private static void put(final Map<String, Set<OperationInterface>> index, final String key,
+                final OperationInterface root) {
+            index.computeIfAbsent(key, x -> new HashSet<>())
+                .add(root);
+        }
+    }
+
 }
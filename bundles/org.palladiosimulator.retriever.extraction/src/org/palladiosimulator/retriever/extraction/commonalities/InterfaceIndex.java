@@ -0,0 +1,106 @@
+package org.palladiosimulator.retriever.extraction.commonalities;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An inverted index from interface names to the values (e.g. components) that hold interfaces of
+ * that name. It finds candidates for interfaces related to a query interface, i.e. interfaces that
+ * are part of the query or that the query is part of, without comparing the query to every indexed
+ * interface.
+ * <p>
+ * The candidates are a superset of the values holding related or equal interfaces. Callers still
+ * have to check the candidates with {@link OperationInterface#isPartOf(OperationInterface)} or the
+ * like, but only these.
+ *
+ * @param <T>
+ *            the type of the indexed values
+ */
+public class InterfaceIndex<T> {
+    // Values by the names an interface can be a part of, i.e. its own and its ancestors' names.
+    private final Map<String, Set<T>> byAncestorName = new ConcurrentHashMap<>();
+    // Values by the names other interfaces may refer to the interface with.
+    private final Map<String, Set<T>> byOwnName = new ConcurrentHashMap<>();
+
+    public void put(final OperationInterface iface, final T value) {
+        for (final String key : ancestorKeys(iface.getName())) {
+            this.byAncestorName.computeIfAbsent(key, x -> ConcurrentHashMap.newKeySet())
+                .add(value);
+        }
+        for (final String key : ownKeys(iface.getName())) {
+            this.byOwnName.computeIfAbsent(key, x -> ConcurrentHashMap.newKeySet())
+                .add(value);
+        }
+    }
+
+    /**
+     * Finds the values that may hold interfaces that are part of the given interface.
+     */
+    public Set<T> findDescendants(final OperationInterface iface) {
+        return lookup(this.byAncestorName, ownKeys(iface.getName()));
+    }
+
+    /**
+     * Finds the values that may hold interfaces that the given interface is part of, or that are
+     * equal to it.
+     */
+    public Set<T> findAncestors(final OperationInterface iface) {
+        return lookup(this.byOwnName, ancestorKeys(iface.getName()));
+    }
+
+    /**
+     * Finds the values that may hold interfaces related to the given interface.
+     */
+    public Set<T> findRelated(final OperationInterface iface) {
+        final Set<T> related = this.findDescendants(iface);
+        related.addAll(this.findAncestors(iface));
+        return related;
+    }
+
+    private static <T> Set<T> lookup(final Map<String, Set<T>> index, final Collection<String> keys) {
+        final Set<T> values = new LinkedHashSet<>();
+        for (final String key : keys) {
+            values.addAll(index.getOrDefault(key, Collections.emptySet()));
+        }
+        return values;
+    }
+
+    /**
+     * A name is part of the strings returned by {@link Name#getInterfaces()}. Operations are
+     * additionally compared by equality, which implies equal string representations.
+     */
+    private static Set<String> ancestorKeys(final Name name) {
+        final Set<String> keys = new HashSet<>(name.getInterfaces());
+        keys.add(name.toString());
+        return keys;
+    }
+
+    /**
+     * {@link Name#isPartOf(String)} either compares the string directly or, for REST names, parses
+     * it after stripping the HTTP methods. All of these forms are keys.
+     */
+    private static Set<String> ownKeys(final Name name) {
+        final Set<String> keys = new HashSet<>();
+        final String fullName = name.toString();
+        keys.add(fullName);
+        final int httpMethodsStart = fullName.indexOf('[');
+        final String path = httpMethodsStart < 0 ? fullName : fullName.substring(0, httpMethodsStart);
+        keys.add(path);
+        try {
+            final Optional<RESTName> restName = RESTName.parse(path);
+            if (restName.isPresent()) {
+                keys.add(restName.get()
+                    .toString());
+            }
+        } catch (final IndexOutOfBoundsException e) {
+            // Paths without any segment, e.g. "/", have no host and are not REST names.
+        }
+        return keys;
+    }
+}
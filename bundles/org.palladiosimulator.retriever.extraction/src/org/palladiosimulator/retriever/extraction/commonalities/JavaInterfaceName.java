@@ -5,9 +5,12 @@ import java.util.Objects;
 
 public class JavaInterfaceName implements InterfaceName {
     private final String name;
+    private final int hash;
 
     public JavaInterfaceName(final String name) {
-        this.name = name;
+        // Names are compared very often, identical instances make equals cheap.
+        this.name = name == null ? null : name.intern();
+        this.hash = Objects.hash(this.name);
     }
 
     @Override
@@ -20,6 +23,11 @@ public class JavaInterfaceName implements InterfaceName {
         return List.of(this.name);
     }
 
+    @Override
+    public boolean isPartOf(final String iface) {
+        return Objects.equals(this.name, iface);
+    }
+
     @Override
     public InterfaceName createName(final String name) {
         return new JavaInterfaceName(name);
@@ -27,7 +35,7 @@ public class JavaInterfaceName implements InterfaceName {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.name);
+        return this.hash;
     }
 
     @Override
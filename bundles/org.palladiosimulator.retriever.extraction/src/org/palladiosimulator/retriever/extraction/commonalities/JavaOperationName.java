@@ -7,10 +7,15 @@ import java.util.Optional;
 public class JavaOperationName implements OperationName {
     private final String iface;
     private final String method;
+    private final String fullName;
+    private final int hash;
 
     public JavaOperationName(final String iface, final String method) {
-        this.iface = iface;
-        this.method = method;
+        // Names are compared very often, identical instances make equals cheap.
+        this.iface = iface.intern();
+        this.method = method.intern();
+        this.fullName = this.iface + "#" + this.method;
+        this.hash = Objects.hash(this.iface, this.method);
     }
 
     @Override
@@ -23,7 +28,12 @@ public class JavaOperationName implements OperationName {
 
     @Override
     public List<String> getInterfaces() {
-        return List.of(this.toString(), this.iface);
+        return List.of(this.fullName, this.iface);
+    }
+
+    @Override
+    public boolean isPartOf(final String iface) {
+        return this.fullName.equals(iface) || this.iface.equals(iface);
     }
 
     @Override
@@ -38,7 +48,7 @@ public class JavaOperationName implements OperationName {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.iface, this.method);
+        return this.hash;
     }
 
     @Override
@@ -55,6 +65,6 @@ public class JavaOperationName implements OperationName {
 
     @Override
     public String toString() {
-        return this.iface + "#" + this.method;
+        return this.fullName;
     }
 }
\ No newline at end of file
@@ -30,4 +30,12 @@ public interface Name {
         return this.getInterfaces()
             .contains(iface);
     }
+
+    /**
+     * Equivalent to {@code isPartOf(other.toString())}. Implementations may compare the names
+     * directly instead of parsing the string representation of the other name.
+     */
+    default boolean isPartOf(final Name other) {
+        return this.isPartOf(other.toString());
+    }
 }
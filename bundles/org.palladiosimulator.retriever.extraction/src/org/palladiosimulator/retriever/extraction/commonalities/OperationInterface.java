@@ -15,8 +15,7 @@ public interface OperationInterface extends Comparable<OperationInterface> {
 
     default boolean isPartOf(final OperationInterface other) {
         return this.getName()
-            .isPartOf(other.getName()
-                .toString());
+            .isPartOf(other.getName());
     }
 
     @Override
@@ -0,0 +1,90 @@
+package org.palladiosimulator.retriever.extraction.commonalities;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A concurrent set of interfaces that remembers the order they were first added in. Interfaces
+ * related to a given one are found through an {@link InterfaceIndex} instead of a scan. The ordered
+ * list of all interfaces is cached until the set is modified.
+ */
+final class OrderedInterfaceSet {
+    private record Snapshot(long version, List<OperationInterface> list) {
+    }
+
+    private final Map<OperationInterface, Long> positions = new ConcurrentHashMap<>();
+    private final AtomicLong nextPosition = new AtomicLong();
+    // Incremented after every modification, a snapshot of an older version is stale.
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+    // Never shrinks, removed interfaces are filtered out on lookup.
+    private final InterfaceIndex<OperationInterface> index = new InterfaceIndex<>();
+
+    /**
+     * @return whether the interface was not contained yet
+     */
+    boolean add(final OperationInterface iface) {
+        // Indexed first, so that concurrent lookups never miss a contained interface.
+        this.index.put(iface, iface);
+        if (this.positions.putIfAbsent(iface, this.nextPosition.getAndIncrement()) != null) {
+            return false;
+        }
+        this.version.incrementAndGet();
+        return true;
+    }
+
+    boolean remove(final OperationInterface iface) {
+        if (this.positions.remove(iface) == null) {
+            return false;
+        }
+        this.version.incrementAndGet();
+        return true;
+    }
+
+    boolean contains(final OperationInterface iface) {
+        return this.positions.containsKey(iface);
+    }
+
+    /**
+     * Finds the contained interfaces that are part of the given interface or that it is part of.
+     *
+     * @return the related interfaces in the order they were first added in
+     */
+    List<OperationInterface> findRelated(final OperationInterface iface) {
+        return this.index.findRelated(iface)
+            .stream()
+            .filter(x -> x.isPartOf(iface) || iface.isPartOf(x))
+            .map(x -> Map.entry(x, this.positions.getOrDefault(x, -1L)))
+            .filter(x -> x.getValue() >= 0)
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the contained interfaces in the order they were first added in
+     */
+    List<OperationInterface> toList() {
+        final long currentVersion = this.version.get();
+        final Snapshot currentSnapshot = this.snapshot;
+        if (currentSnapshot != null && currentSnapshot.version() == currentVersion) {
+            return currentSnapshot.list();
+        }
+        final List<OperationInterface> list = this.positions.entrySet()
+            .stream()
+            .sorted(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toUnmodifiableList());
+        this.snapshot = new Snapshot(currentVersion, list);
+        return list;
+    }
+
+    Set<OperationInterface> asSet() {
+        return Collections.unmodifiableSet(this.positions.keySet());
+    }
+}
@@ -1,6 +1,10 @@
 package org.palladiosimulator.retriever.extraction.commonalities;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -18,27 +22,36 @@ public class PCMDetectionResult {
             final Map<String, CompositeBuilder> composites, final ProvisionsBuilder compositeProvisions,
             final RequirementsBuilder compositeRequirements) {
 
+        final List<OperationInterface> allDependencies = new LinkedList<>();
+        // TODO: Aren't the dependencies of free components missing here? Is that alright?
+        allDependencies.addAll(compositeRequirements.toList());
+        allDependencies.addAll(compositeProvisions.toList());
+
         // Collect globally visible provisions
-        final Set<Component> temporaryComponents = PCMDetectionResult.createComponents(components, compositeProvisions,
-                compositeRequirements, Set.of());
-        final Set<Component> connectedComponents = PCMDetectionResult.collectConnectedComponents(temporaryComponents,
+        final Map<CompUnitOrName, Component> temporaryComponents = PCMDetectionResult.createComponents(components,
+                allDependencies);
+        final Set<Component> connectedComponents = PCMDetectionResult.collectConnectedComponents(
+                temporaryComponents.values()
+                    .stream()
+                    .collect(Collectors.toSet()),
                 composites, compositeProvisions, compositeRequirements);
         final Set<Composite> temporaryComposites = PCMDetectionResult.createCompositeComponents(connectedComponents,
-                composites, compositeProvisions, compositeRequirements, Set.of());
-        final Set<OperationInterface> visibleProvisions = PCMDetectionResult
-            .collectVisibleProvisions(connectedComponents, temporaryComposites);
-
-        // TODO: Do not rebuild everything, that is theoretically not necessary since provisions do
-        // not change.
+                composites, compositeProvisions, compositeRequirements, VisibleProvisions.NONE);
+        final VisibleProvisions visibleProvisions = new VisibleProvisions(
+                PCMDetectionResult.collectVisibleProvisions(connectedComponents, temporaryComposites));
 
         final Map<CompUnitOrName, ComponentBuilder> connectedComponentBuilders = connectedComponents.stream()
             .map(Component::identifier)
             .map(components::get)
             .collect(Collectors.toMap(ComponentBuilder::identifier, x -> x));
 
-        // Construct final result
-        this.components = PCMDetectionResult.createComponents(connectedComponentBuilders, compositeProvisions,
-                compositeRequirements, visibleProvisions);
+        // Construct final result. Provisions do not depend on the visible provisions, so only the
+        // requirements of the temporary components are derived again.
+        this.components = connectedComponentBuilders.values()
+            .stream()
+            .map(x -> PCMDetectionResult.generalizeRequirements(x, temporaryComponents.get(x.identifier()),
+                    allDependencies, visibleProvisions))
+            .collect(Collectors.toSet());
         this.composites = PCMDetectionResult.createCompositeComponents(this.components, composites, compositeProvisions,
                 compositeRequirements, visibleProvisions);
         this.operationInterfaces = this.createOperationInterfaces();
@@ -53,9 +66,9 @@ public class PCMDetectionResult {
                 metaCompositeBuilder.addPart(part);
             }
         }
-        final Composite metaComposite = metaCompositeBuilder.construct(temporaryComponents,
-                new RequirementsBuilder().create(Set.of(), Set.of()), new ProvisionsBuilder().create(Set.of()),
-                Set.of());
+        final Composite metaComposite = metaCompositeBuilder.construct(new ComponentGraph(temporaryComponents),
+                new RequirementsBuilder().create(Set.of(), VisibleProvisions.NONE),
+                new ProvisionsBuilder().create(Set.of()), VisibleProvisions.NONE);
         final Set<Component> connectedComponents = metaComposite.parts();
         if (connectedComponents.isEmpty()) {
             return temporaryComponents;
@@ -64,48 +77,75 @@ public class PCMDetectionResult {
         }
     }
 
-    private static Set<Component> createComponents(final Map<CompUnitOrName, ComponentBuilder> components,
-            final ProvisionsBuilder compositeProvisions, final RequirementsBuilder compositeRequirements,
-            final Set<OperationInterface> visibleProvisions) {
-        final List<OperationInterface> allDependencies = new LinkedList<>();
-        // TODO: Aren't the dependencies of free components missing here? Is that alright?
-        allDependencies.addAll(compositeRequirements.toList());
-        allDependencies.addAll(compositeProvisions.toList());
-
+    // Keeps the order of the builders, composite construction depends on it.
+    private static Map<CompUnitOrName, Component> createComponents(
+            final Map<CompUnitOrName, ComponentBuilder> components, final List<OperationInterface> allDependencies) {
         return components.values()
             .stream()
-            .map(x -> x.create(allDependencies, visibleProvisions))
-            .collect(Collectors.toSet());
+            .collect(Collectors.toMap(ComponentBuilder::identifier,
+                    x -> x.create(allDependencies, VisibleProvisions.NONE), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Generalizes the requirements of a component created without visible provisions. The
+     * component is reused as is if none of its requirements is part of a visible provision.
+     */
+    private static Component generalizeRequirements(final ComponentBuilder builder,
+            final Component temporaryComponent, final List<OperationInterface> allDependencies,
+            final VisibleProvisions visibleProvisions) {
+        final Set<OperationInterface> requirements = Requirements.generalize(builder.requirements()
+            .toList(), visibleProvisions);
+        if (requirements.equals(temporaryComponent.requirements()
+            .get())) {
+            return temporaryComponent;
+        }
+        return new Component(builder.identifier(), new Requirements(requirements, allDependencies),
+                temporaryComponent.provisions());
     }
 
     private static Set<Composite> createCompositeComponents(final Set<Component> freeComponents,
             final Map<String, CompositeBuilder> composites, final ProvisionsBuilder compositeProvisions,
-            final RequirementsBuilder compositeRequirements, final Set<OperationInterface> visibleProvisions) {
+            final RequirementsBuilder compositeRequirements, final VisibleProvisions visibleProvisions) {
 
-        // Construct composites.
-        final List<Composite> allComposites = composites.values()
-            .stream()
-            .map(x -> x.construct(freeComponents, compositeRequirements.create(visibleProvisions, visibleProvisions),
-                    compositeProvisions.create(visibleProvisions), visibleProvisions))
+        // Construct composites. Their requirements, provisions and component graph are the same for
+        // all of them, and each composite is constructed independently of the others.
+        final Requirements requirements = compositeRequirements.create(visibleProvisions.get(), visibleProvisions);
+        final Provisions provisions = compositeProvisions.create(visibleProvisions.get());
+        final ComponentGraph graph = new ComponentGraph(freeComponents);
+        final List<Composite> allComposites = new ArrayList<>(composites.values()).parallelStream()
+            .map(x -> x.construct(graph, requirements, provisions, visibleProvisions))
             .collect(Collectors.toList());
 
         // Remove redundant composites.
-        final Set<Composite> redundantComposites = new HashSet<>();
+        final int[] canonicalIndices = PCMDetectionResult.findCanonicalIndices(allComposites);
+        final long[][] parts = PCMDetectionResult.toPartBitSets(allComposites);
+        final int[] partCounts = new int[parts.length];
+        for (int i = 0; i < parts.length; ++i) {
+            for (final long word : parts[i]) {
+                partCounts[i] += Long.bitCount(word);
+            }
+        }
+
+        final boolean[] redundantComposites = new boolean[allComposites.size()];
         final Set<Composite> remainingComposites = new HashSet<>();
 
         for (int i = 0; i < allComposites.size(); ++i) {
             final Composite subject = allComposites.get(i);
-            final long subsetCount = allComposites.subList(i + 1, allComposites.size())
-                .stream()
-                .filter(x -> !redundantComposites.contains(x))
-                .filter(x -> subject.isSubsetOf(x) || x.isSubsetOf(subject))
-                .count();
+            boolean isRelatedToSubset = false;
+            for (int j = i + 1; j < allComposites.size() && !isRelatedToSubset; ++j) {
+                if (redundantComposites[canonicalIndices[j]]) {
+                    continue;
+                }
+                // A set can only be the subset of a set at least as large.
+                isRelatedToSubset = partCounts[i] <= partCounts[j] && PCMDetectionResult.isSubset(parts[i], parts[j])
+                        || partCounts[j] <= partCounts[i] && PCMDetectionResult.isSubset(parts[j], parts[i]);
+            }
 
             // Any composite is guaranteed to be the subset of at least one composite in the
             // list, namely itself. If it is the subset of any composites other than itself, it is
             // redundant.
-            if (subsetCount > 0) {
-                redundantComposites.add(subject);
+            if (isRelatedToSubset) {
+                redundantComposites[canonicalIndices[i]] = true;
             } else {
                 // TODO: Is there any merging necessary, like adapting the redundant composite's
                 // requirements to its peer?
@@ -116,6 +156,48 @@ public class PCMDetectionResult {
         return remainingComposites;
     }
 
+    /**
+     * Maps each composite to the index of the first composite equal to it, so that a composite is
+     * considered redundant if any equal composite is.
+     */
+    private static int[] findCanonicalIndices(final List<Composite> composites) {
+        final Map<Composite, Integer> firstIndices = new HashMap<>();
+        final int[] canonicalIndices = new int[composites.size()];
+        for (int i = 0; i < composites.size(); ++i) {
+            final Integer firstIndex = firstIndices.putIfAbsent(composites.get(i), i);
+            canonicalIndices[i] = firstIndex == null ? i : firstIndex;
+        }
+        return canonicalIndices;
+    }
+
+    /**
+     * Numbers all parts densely and represents the parts of each composite as the words of a bit
+     * set over these numbers.
+     */
+    private static long[][] toPartBitSets(final List<Composite> composites) {
+        final Map<Component, Integer> componentNumbers = new HashMap<>();
+        final long[][] partBitSets = new long[composites.size()][];
+        for (int i = 0; i < composites.size(); ++i) {
+            final BitSet parts = new BitSet();
+            for (final Component part : composites.get(i)
+                .parts()) {
+                parts.set(componentNumbers.computeIfAbsent(part, x -> componentNumbers.size()));
+            }
+            partBitSets[i] = parts.toLongArray();
+        }
+        return partBitSets;
+    }
+
+    private static boolean isSubset(final long[] subset, final long[] superset) {
+        for (int i = 0; i < subset.length; ++i) {
+            final long supersetWord = i < superset.length ? superset[i] : 0L;
+            if ((subset[i] & ~supersetWord) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static Set<OperationInterface> collectVisibleProvisions(final Set<Component> components,
             final Set<Composite> composites) {
         // Collect globally visible provisions
@@ -1,75 +1,54 @@
 package org.palladiosimulator.retriever.extraction.commonalities;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 public class ProvisionsBuilder {
-    private final List<OperationInterface> provisions = new LinkedList<>();
-    private final Set<OperationInterface> weakProvisions = new HashSet<>();
+    private final OrderedInterfaceSet provisions = new OrderedInterfaceSet();
+    private final OrderedInterfaceSet weakProvisions = new OrderedInterfaceSet();
 
     public void add(final OperationInterface... provisions) {
         this.add(List.of(provisions));
     }
 
-    public synchronized void add(final Collection<OperationInterface> provisions) {
-        this.provisions.addAll(provisions);
+    public void add(final Collection<OperationInterface> provisions) {
+        for (final OperationInterface provision : provisions) {
+            this.provisions.add(provision);
+        }
     }
 
-    public synchronized void addWeakly(final OperationInterface iface) {
+    public void addWeakly(final OperationInterface iface) {
         this.weakProvisions.add(iface);
     }
 
-    public synchronized void strengthenIfPresent(final OperationInterface iface) {
-        List<OperationInterface> remainingProvisions = new LinkedList<>();
-        for (final OperationInterface provision : this.weakProvisions) {
-            final boolean partlyProvided = provision.isPartOf(iface);
-            final boolean entirelyProvided = iface.isPartOf(provision);
-            if (partlyProvided || entirelyProvided) {
-                this.provisions.add(provision);
-            } else {
-                remainingProvisions.add(provision);
-            }
+    public void strengthenIfPresent(final OperationInterface iface) {
+        for (final OperationInterface provision : this.weakProvisions.findRelated(iface)) {
+            // Added before being removed, so that the provision is always visible to
+            // containsRelated.
+            this.provisions.add(provision);
+            this.weakProvisions.remove(provision);
         }
-        this.weakProvisions.clear();
-        this.weakProvisions.addAll(remainingProvisions);
     }
 
-    public synchronized boolean containsRelated(final OperationInterface requirement) {
-        for (final OperationInterface provision : this.provisions) {
-            final boolean partlyProvided = provision.isPartOf(requirement);
-            final boolean entirelyProvided = requirement.isPartOf(provision);
-            if (partlyProvided || entirelyProvided) {
-                return true;
-            }
-        }
-
-        for (final OperationInterface provision : this.weakProvisions) {
-            final boolean partlyProvided = provision.isPartOf(requirement);
-            final boolean entirelyProvided = requirement.isPartOf(provision);
-            if (partlyProvided || entirelyProvided) {
-                return true;
-            }
-        }
-
-        return false;
+    public boolean containsRelated(final OperationInterface requirement) {
+        return !this.provisions.findRelated(requirement)
+            .isEmpty()
+                || !this.weakProvisions.findRelated(requirement)
+                    .isEmpty();
     }
 
     public Provisions create(final Collection<OperationInterface> allDependencies) {
-        return new Provisions(this.provisions, allDependencies);
+        return new Provisions(this.toList(), allDependencies);
     }
 
     public List<OperationInterface> toList() {
-        return Collections.unmodifiableList(this.provisions);
+        return this.provisions.toList();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.provisions, this.weakProvisions);
+        return Objects.hash(this.toList(), this.weakProvisions.asSet());
     }
 
     @Override
@@ -81,7 +60,7 @@ public class ProvisionsBuilder {
             return false;
         }
         final ProvisionsBuilder other = (ProvisionsBuilder) obj;
-        return Objects.equals(this.provisions, other.provisions)
-                && Objects.equals(this.weakProvisions, other.weakProvisions);
+        return Objects.equals(this.toList(), other.toList())
+                && Objects.equals(this.weakProvisions.asSet(), other.weakProvisions.asSet());
     }
 }
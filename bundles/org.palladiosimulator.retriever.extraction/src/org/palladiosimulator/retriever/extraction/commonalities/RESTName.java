@@ -12,17 +12,34 @@ import java.util.stream.Collectors;
 public class RESTName implements InterfaceName {
     private final String host;
     private final List<String> path;
+    private final String name;
+    private final int hash;
+    /**
+     * Whether parsing the name again yields an equal name, see {@link #parse(String)}. Only then,
+     * names can be compared directly instead of by their string representation.
+     */
+    private final boolean canonical;
+    private List<String> interfaces;
 
     public RESTName(final String host, final String path) throws IllegalArgumentException {
-        this.host = host;
+        this.host = host == null ? null : host.intern();
         final Optional<List<String>> parsedPath = parsePath(host + path);
         if (parsedPath.isEmpty()) {
             throw new IllegalArgumentException("Could not parse path due to illegal format: \"" + path + "\"");
         }
-        this.path = parsedPath.get();
+        final List<String> segments = parsedPath.get();
 
         // Keep host name separate
-        this.path.remove(0);
+        segments.remove(0);
+
+        // Names are compared segment-wise very often, identical instances make equals cheap.
+        this.path = segments.stream()
+            .map(String::intern)
+            .collect(Collectors.toUnmodifiableList());
+        this.name = this.toName(this.path);
+        this.hash = Objects.hash(this.host, this.path);
+        this.canonical = this.host != null && !this.host.isEmpty() && this.host.indexOf('/') < 0
+                && this.name.indexOf('[') < 0;
     }
 
     @Override
@@ -32,6 +49,16 @@ public class RESTName implements InterfaceName {
 
     @Override
     public List<String> getInterfaces() {
+        // Benign race, the list is immutable.
+        List<String> currentInterfaces = this.interfaces;
+        if (currentInterfaces == null) {
+            currentInterfaces = List.copyOf(this.computeInterfaces());
+            this.interfaces = currentInterfaces;
+        }
+        return currentInterfaces;
+    }
+
+    private List<String> computeInterfaces() {
         final Stack<List<String>> prefixes = new Stack<>();
 
         if (this.path.size() > 0) {
@@ -75,7 +102,7 @@ public class RESTName implements InterfaceName {
 
     @Override
     public String toString() {
-        return this.toName(this.path);
+        return this.name;
     }
 
     private static Optional<List<String>> parsePath(final String string) {
@@ -95,7 +122,7 @@ public class RESTName implements InterfaceName {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.host, this.path);
+        return this.hash;
     }
 
     @Override
@@ -168,6 +195,38 @@ public class RESTName implements InterfaceName {
         return true;
     }
 
+    @Override
+    public boolean isPartOf(final Name other) {
+        if (other instanceof RESTName otherREST && otherREST.canonical) {
+            return this.startsWith(otherREST);
+        }
+        if (other instanceof RESTOperationName otherREST && otherREST.getRESTName().canonical) {
+            // The HTTP methods are stripped from the string representation anyway.
+            return this.startsWith(otherREST.getRESTName());
+        }
+        return InterfaceName.super.isPartOf(other);
+    }
+
+    boolean isCanonical() {
+        return this.canonical;
+    }
+
+    /**
+     * Equivalent to {@link #isPartOf(String)} for the string representation of a canonical name.
+     */
+    boolean startsWith(final RESTName prefix) {
+        if (!prefix.host.equals(this.host) || prefix.path.size() > this.path.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.path.size(); i++) {
+            if (!this.path.get(i)
+                .equals(prefix.path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static Optional<RESTName> parse(final String iface) {
         if (iface.contains("[")) {
             // If a HTTP method is present, iface is not a RESTName.
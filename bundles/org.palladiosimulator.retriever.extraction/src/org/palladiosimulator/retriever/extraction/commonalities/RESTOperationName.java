@@ -10,11 +10,13 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class RESTOperationName implements OperationName {
-    private RESTName restName;
+    private final RESTName restName;
     /**
      * This set must never be empty.
      */
     private final Set<HTTPMethod> httpMethods;
+    private final String name;
+    private final int hash;
 
     public RESTOperationName(final String host, final String path, final Set<HTTPMethod> httpMethods)
             throws IllegalArgumentException {
@@ -33,6 +35,12 @@ public class RESTOperationName implements OperationName {
         } else {
             this.httpMethods = Collections.unmodifiableSet(httpMethods);
         }
+        this.name = this.toName();
+        this.hash = Objects.hash(this.restName, this.httpMethods);
+    }
+
+    RESTName getRESTName() {
+        return this.restName;
     }
 
     @Override
@@ -62,6 +70,10 @@ public class RESTOperationName implements OperationName {
 
     @Override
     public String toString() {
+        return this.name;
+    }
+
+    private String toName() {
         final String pathString = this.restName.toString();
 
         if (this.httpMethods.isEmpty() || HTTPMethod.areAllPresent(this.httpMethods)) {
@@ -82,7 +94,7 @@ public class RESTOperationName implements OperationName {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.restName, this.httpMethods);
+        return this.hash;
     }
 
     @Override
@@ -140,6 +152,21 @@ public class RESTOperationName implements OperationName {
         return true;
     }
 
+    @Override
+    public boolean isPartOf(final Name other) {
+        if (other instanceof RESTName otherREST && otherREST.isCanonical()) {
+            return this.restName.startsWith(otherREST);
+        }
+        if (other instanceof RESTOperationName otherREST && otherREST.restName.isCanonical()) {
+            if (HTTPMethod.areAllPresent(otherREST.httpMethods)) {
+                // The string representation does not contain any HTTP methods, i.e. it is a RESTName.
+                return this.restName.startsWith(otherREST.restName);
+            }
+            return this.restName.equals(otherREST.restName) && otherREST.httpMethods.containsAll(this.httpMethods);
+        }
+        return OperationName.super.isPartOf(other);
+    }
+
     public static Optional<RESTOperationName> parse(final String iface) {
         final String[] parts = iface.split("\\[");
         final Optional<RESTName> restNameOption = RESTName.parse(parts[0]);
@@ -21,25 +21,38 @@ public class Requirements implements Iterable<OperationInterface> {
     public Requirements(final Collection<OperationInterface> requiredInterfaces,
             final Collection<OperationInterface> allDependencies,
             final Collection<OperationInterface> visibleProvisions) {
-        this.requirements = new HashSet<>();
+        this(requiredInterfaces, allDependencies, new VisibleProvisions(visibleProvisions));
+    }
 
-        final List<OperationInterface> sortedProvisions = new ArrayList<>(visibleProvisions);
-        Collections.sort(sortedProvisions);
-        Collections.reverse(sortedProvisions);
-        for (final OperationInterface requirement : requiredInterfaces) {
-            OperationInterface generalizedRequirement = requirement;
-            for (final OperationInterface provision : sortedProvisions) {
-                if (requirement.isPartOf(provision)) {
-                    generalizedRequirement = provision;
-                    break;
-                }
-            }
-            this.requirements.add(generalizedRequirement);
-        }
+    public Requirements(final Collection<OperationInterface> requiredInterfaces,
+            final Collection<OperationInterface> allDependencies, final VisibleProvisions visibleProvisions) {
+        this(generalize(requiredInterfaces, visibleProvisions), allDependencies);
+    }
 
+    /**
+     * @param requirements
+     *            the already generalized requirements, see
+     *            {@link #generalize(Collection, VisibleProvisions)}
+     */
+    Requirements(final Set<OperationInterface> requirements, final Collection<OperationInterface> allDependencies) {
+        this.requirements = requirements;
         this.groupedRequirements = DependencyUtils.groupDependencies(this.requirements, allDependencies);
     }
 
+    /**
+     * Replaces each required interface by the visible provision it generalizes to.
+     *
+     * @see VisibleProvisions#generalize(OperationInterface)
+     */
+    static Set<OperationInterface> generalize(final Collection<OperationInterface> requiredInterfaces,
+            final VisibleProvisions visibleProvisions) {
+        final Set<OperationInterface> requirements = new HashSet<>();
+        for (final OperationInterface requirement : requiredInterfaces) {
+            requirements.add(visibleProvisions.generalize(requirement));
+        }
+        return requirements;
+    }
+
     public Set<OperationInterface> get() {
         return Collections.unmodifiableSet(this.requirements);
     }
@@ -1,68 +1,60 @@
 package org.palladiosimulator.retriever.extraction.commonalities;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 public class RequirementsBuilder {
-    private final List<OperationInterface> requirements = new LinkedList<>();
-    private final Set<OperationInterface> weakRequirements = new HashSet<>();
+    private final OrderedInterfaceSet requirements = new OrderedInterfaceSet();
+    private final OrderedInterfaceSet weakRequirements = new OrderedInterfaceSet();
 
     public void add(final OperationInterface... interfaces) {
         this.add(List.of(interfaces));
     }
 
-    public synchronized void add(final Collection<OperationInterface> interfaces) {
-        this.requirements.addAll(interfaces);
+    public void add(final Collection<OperationInterface> interfaces) {
+        for (final OperationInterface iface : interfaces) {
+            this.requirements.add(iface);
+        }
     }
 
-    public synchronized void addWeakly(final OperationInterface iface) {
+    public void addWeakly(final OperationInterface iface) {
         this.weakRequirements.add(iface);
     }
 
-    public synchronized void strengthenIfPresent(final OperationInterface iface) {
+    public void strengthenIfPresent(final OperationInterface iface) {
         if (this.weakRequirements.contains(iface)) {
-            this.weakRequirements.remove(iface);
+            // Added before being removed, so that the requirement is always visible to
+            // containsRelated.
             this.requirements.add(iface);
+            this.weakRequirements.remove(iface);
         }
     }
 
-    public synchronized boolean containsRelated(OperationInterface provision) {
-        for (final OperationInterface requirement : this.requirements) {
-            final boolean partlyRequired = requirement.isPartOf(provision);
-            final boolean entirelyRequired = provision.isPartOf(requirement);
-            if (partlyRequired || entirelyRequired) {
-                return true;
-            }
-        }
-
-        for (final OperationInterface requirement : this.weakRequirements) {
-            final boolean partlyRequired = requirement.isPartOf(provision);
-            final boolean entirelyRequired = provision.isPartOf(requirement);
-            if (partlyRequired || entirelyRequired) {
-                return true;
-            }
-        }
-
-        return false;
+    public boolean containsRelated(final OperationInterface provision) {
+        return !this.requirements.findRelated(provision)
+            .isEmpty()
+                || !this.weakRequirements.findRelated(provision)
+                    .isEmpty();
     }
 
     public Requirements create(final Collection<OperationInterface> allDependencies,
             final Collection<OperationInterface> visibleProvisions) {
-        return new Requirements(this.requirements, allDependencies, visibleProvisions);
+        return this.create(allDependencies, new VisibleProvisions(visibleProvisions));
+    }
+
+    public Requirements create(final Collection<OperationInterface> allDependencies,
+            final VisibleProvisions visibleProvisions) {
+        return new Requirements(this.toList(), allDependencies, visibleProvisions);
     }
 
     public List<OperationInterface> toList() {
-        return Collections.unmodifiableList(this.requirements);
+        return this.requirements.toList();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.requirements, this.weakRequirements);
+        return Objects.hash(this.toList(), this.weakRequirements.asSet());
     }
 
     @Override
@@ -74,7 +66,7 @@ public class RequirementsBuilder {
             return false;
         }
         final RequirementsBuilder other = (RequirementsBuilder) obj;
-        return Objects.equals(this.requirements, other.requirements)
-                && Objects.equals(this.weakRequirements, other.weakRequirements);
+        return Objects.equals(this.toList(), other.toList())
+                && Objects.equals(this.weakRequirements.asSet(), other.weakRequirements.asSet());
     }
 }
@@ -0,0 +1,65 @@
+package org.palladiosimulator.retriever.extraction.commonalities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The globally visible provisions that requirements are generalized to. The provisions are sorted
+ * and indexed once, so that the generalization of a requirement only has to check the provisions
+ * it may be part of.
+ * <p>
+ * Instances are immutable and may be shared by all components of a {@code PCMDetectionResult}.
+ *
+ * @see Requirements
+ */
+public class VisibleProvisions {
+    public static final VisibleProvisions NONE = new VisibleProvisions(List.of());
+
+    private final List<OperationInterface> provisions;
+    // Positions in reverse natural order, the first matching provision generalizes a requirement.
+    private final Map<OperationInterface, Integer> positions;
+    private final InterfaceIndex<OperationInterface> index;
+
+    public VisibleProvisions(final Collection<OperationInterface> provisions) {
+        final List<OperationInterface> sortedProvisions = new ArrayList<>(provisions);
+        Collections.sort(sortedProvisions);
+        Collections.reverse(sortedProvisions);
+
+        this.provisions = Collections.unmodifiableList(new ArrayList<>(provisions));
+        this.positions = new HashMap<>();
+        this.index = new InterfaceIndex<>();
+        for (final OperationInterface provision : sortedProvisions) {
+            this.positions.putIfAbsent(provision, this.positions.size());
+            this.index.put(provision, provision);
+        }
+    }
+
+    /**
+     * @return the provisions in the order they were given
+     */
+    public List<OperationInterface> get() {
+        return this.provisions;
+    }
+
+    /**
+     * Finds the first provision, in reverse natural order, that the requirement is part of.
+     *
+     * @return the provision, or the requirement itself if it is not part of any provision
+     */
+    public OperationInterface generalize(final OperationInterface requirement) {
+        OperationInterface generalizedRequirement = requirement;
+        int generalizedPosition = Integer.MAX_VALUE;
+        for (final OperationInterface provision : this.index.findAncestors(requirement)) {
+            final int position = this.positions.get(provision);
+            if (position < generalizedPosition && requirement.isPartOf(provision)) {
+                generalizedRequirement = provision;
+                generalizedPosition = position;
+            }
+        }
+        return generalizedRequirement;
+    }
+}
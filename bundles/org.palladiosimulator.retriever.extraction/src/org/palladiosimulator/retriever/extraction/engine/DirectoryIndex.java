@@ -0,0 +1,156 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+/**
+ * An index from directories to the files directly contained in them, so that files can be looked
+ * up by directory and name instead of by filtering all paths of a partition. An index of a
+ * partition is built once and shared via the {@link RetrieverBlackboard}.
+ */
+public final class DirectoryIndex {
+    public static final String PARTITION_SUFFIX = ".directories";
+
+    private final Path root;
+    private final Map<Path, Map<String, Path>> filesByDirectory;
+    // The partition the shared index was built from, partitions may be replaced, e.g. by an index
+    // of the files below another folder.
+    private final Object source;
+
+    /**
+     * @param paths
+     *            the files to index
+     * @param root
+     *            a folder all of whose files are contained in the paths, or {@code null} if the
+     *            paths may be incomplete
+     */
+    public DirectoryIndex(final Collection<Path> paths, final Path root) {
+        this(paths, root, null);
+    }
+
+    private DirectoryIndex(final Collection<Path> paths, final Path root, final Object source) {
+        this.root = root;
+        this.source = source;
+        this.filesByDirectory = new HashMap<>();
+        for (final Path path : paths) {
+            final Path directory = path.getParent();
+            final Path fileName = path.getFileName();
+            if (directory != null && fileName != null) {
+                this.filesByDirectory.computeIfAbsent(directory, x -> new LinkedHashMap<>())
+                    .putIfAbsent(fileName.toString(), path);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of a partition from the blackboard. If there is none yet, the keys of the
+     * partition are indexed and the index is put on the blackboard under the ID of the partition
+     * followed by {@link #PARTITION_SUFFIX}. The partition of the {@link FileIndex} is supported as
+     * well, its index covers the whole input folder. If the partition was replaced since the index
+     * was built, the index is built again.
+     *
+     * @param blackboard
+     *            the blackboard the partition and its index are shared on
+     * @param partitionId
+     *            the ID of a partition mapping paths to files
+     * @return the shared index, or an empty index if there is no such partition yet
+     */
+    public static DirectoryIndex of(final RetrieverBlackboard blackboard, final String partitionId) {
+        final String indexId = partitionId + PARTITION_SUFFIX;
+        synchronized (blackboard) {
+            if (!blackboard.hasPartition(partitionId)) {
+                return new DirectoryIndex(List.of(), null);
+            }
+            final Object partition = blackboard.getPartition(partitionId);
+            if (blackboard.hasPartition(indexId) && blackboard.getPartition(indexId) instanceof DirectoryIndex index
+                    && index.source == partition) {
+                return index;
+            }
+
+            final DirectoryIndex index;
+            if (partition instanceof FileIndex fileIndex) {
+                index = new DirectoryIndex(fileIndex.entries()
+                    .map(FileIndex.Entry::path)
+                    .collect(Collectors.toList()), fileIndex.getRoot(), partition);
+            } else if (partition instanceof Map<?, ?> files) {
+                // Only the keys are read, so lazily parsed files are not loaded.
+                index = new DirectoryIndex(files.keySet()
+                    .stream()
+                    .filter(Path.class::isInstance)
+                    .map(Path.class::cast)
+                    .collect(Collectors.toList()), null, partition);
+            } else {
+                return new DirectoryIndex(List.of(), null);
+            }
+            blackboard.addPartition(indexId, index);
+            return index;
+        }
+    }
+
+    /**
+     * Finds the files in a directory with one of the given names.
+     *
+     * @return the matching files in the order they were indexed in
+     */
+    public List<Path> findFiles(final Path directory, final Set<String> fileNames) {
+        final Map<String, Path> files = this.filesByDirectory.getOrDefault(directory, Map.of());
+        final List<Path> candidates = fileNames.stream()
+            .map(files::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        if (candidates.size() > 1) {
+            return files.values()
+                .stream()
+                .filter(candidates::contains)
+                .collect(Collectors.toList());
+        }
+        return candidates;
+    }
+
+    public boolean contains(final Path directory, final String fileName) {
+        return this.filesByDirectory.getOrDefault(directory, Map.of())
+            .containsKey(fileName);
+    }
+
+    /**
+     * Finds the closest ancestor of a path that contains one of the given project files, e.g.
+     * "pom.xml". Directories covered by the index are looked up in it, the file system is only
+     * checked for directories outside of the indexed folder.
+     * <p>
+     * Symbolic links are not followed while indexing, so project files that are symbolic links, or
+     * are below a linked directory, are not found within the indexed folder. Outside of it, the file
+     * system follows links as usual.
+     *
+     * @return the project root, or {@code null} if there is none
+     */
+    public Path findProjectRoot(final Path pathInProject, final String... projectFileNames) {
+        if (pathInProject == null) {
+            return null;
+        }
+        Path currentPath = pathInProject.getParent();
+        while (currentPath != null) {
+            for (final String projectFileName : projectFileNames) {
+                if (this.covers(currentPath) ? this.contains(currentPath, projectFileName)
+                        : Files.exists(currentPath.resolve(projectFileName))) {
+                    return currentPath;
+                }
+            }
+            currentPath = currentPath.getParent();
+        }
+        return null;
+    }
+
+    private boolean covers(final Path directory) {
+        return this.root != null && directory.startsWith(this.root);
+    }
+}
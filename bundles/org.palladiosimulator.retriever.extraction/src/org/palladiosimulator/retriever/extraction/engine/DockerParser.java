@@ -1,25 +1,24 @@
 package org.palladiosimulator.retriever.extraction.engine;
 
-import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.log4j.Logger;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 
 /**
  * The DockerParser parses a docker-compose file to extract a mapping between service names
@@ -29,74 +28,74 @@ import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
 public class DockerParser {
     private static final String FILE_NAME = "docker-compose";
 
-    private final Path path;
+    private final FileIndex fileIndex;
     private final PCMDetector pcmDetector;
     private final Map<String, Set<CompilationUnit>> mapping;
 
     private static final Logger LOG = Logger.getLogger(DockerParser.class);
 
     public DockerParser(final Path path, final PCMDetector pcmDetector) {
+        this(FileIndex.build(path), pcmDetector);
+    }
+
+    public DockerParser(final FileIndex fileIndex, final PCMDetector pcmDetector) {
 
         LOG.info("starting docker process");
 
-        this.path = path;
+        this.fileIndex = fileIndex;
         this.pcmDetector = pcmDetector;
-        final InputStream input = this.getDockerFile();
-        final List<String> services = extractServiceNames(input);
+        final List<String> services = extractServiceNames(this.getDockerFile());
         this.mapping = this.createServiceComponentMapping(services);
     }
 
     /**
-     * Returns a Stream to the docker-compose file found by walking through a given project
-     * directory.
+     * Returns the docker-compose file found in the file index of the project directory.
      *
-     * @return the docker-compose file as stream
+     * @return the path of the docker-compose file, or null if there is none
      */
-    private InputStream getDockerFile() {
+    private Path getDockerFile() {
 
-        List<Path> paths = new ArrayList<>();
-        try (Stream<Path> files = Files.walk(this.path)) {
-            paths = files.filter(f -> f.getFileName()
+        final Optional<Path> path = this.fileIndex.entries()
+            .map(FileIndex.Entry::path)
+            .filter(f -> f.getFileName()
                 .toString()
                 .contains(FILE_NAME))
-                .collect(Collectors.toList());
-        } catch (final IOException e) {
-            e.printStackTrace();
-        }
-        if (paths.isEmpty()) {
+            .findFirst();
+        if (path.isEmpty()) {
             LOG.info("No docker compose file detected.");
             return null;
         }
-        final Path firstPath = paths.get(0);
-
-        final File initialFile = firstPath.toFile();
-        try {
-            return new FileInputStream(initialFile);
-        } catch (final FileNotFoundException e) {
-            e.printStackTrace();
-        }
-        return null;
+        return path.get();
     }
 
     /**
      * Extracts the service names within a docker-compose file.
      *
-     * @param stream
-     *            the docker-compose file
+     * @param path
+     *            the docker-compose file, may be null
      * @return the list of all service names found in the docker-compose file
      */
-    @SuppressWarnings("unchecked")
-    private static List<String> extractServiceNames(final InputStream stream) {
-        // final Yaml yaml = new Yaml();
-        final Map<String, Object> object = new HashMap<>(); // (Map<String, Object>)
-                                                            // yaml.load(stream);
+    private static List<String> extractServiceNames(final Path path) {
+        if (path == null) {
+            return new ArrayList<>();
+        }
+
+        Object object = null;
+        try (InputStream stream = new FileInputStream(path.toFile())) {
+            object = new Yaml().load(stream);
+        } catch (final IOException | YAMLException e) {
+            LOG.warn(String.format("%s could not be read correctly.", path), e);
+        }
 
         // get all service names from the map
-        if (!object.containsKey("services")) {
+        if (!(object instanceof Map<?, ?> compose) || !(compose.get("services") instanceof Map<?, ?> services)) {
             LOG.info("No property with name 'services' in docker compose file. File not usable");
             return new ArrayList<>();
         }
-        return new ArrayList<>(((Map<String, Object>) object.get("services")).keySet());
+        return services.keySet()
+            .stream()
+            .map(String::valueOf)
+            .collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
@@ -109,9 +108,12 @@ public class DockerParser {
      */
     private Map<String, Set<CompilationUnit>> createServiceComponentMapping(final List<String> serviceNames) {
 
-        final Set<CompUnitOrName> components = this.pcmDetector.getCompilationUnits();
-
         final Map<String, Set<CompilationUnit>> serviceToCompMapping = new HashMap<>();
+        if (serviceNames.isEmpty()) {
+            return serviceToCompMapping;
+        }
+
+        final Set<CompUnitOrName> components = this.pcmDetector.getCompilationUnits();
 
         components.forEach(compUnitOrName -> {
             if (!compUnitOrName.isUnit()) {
@@ -119,23 +121,19 @@ public class DockerParser {
             }
             final CompilationUnit comp = compUnitOrName.compilationUnit()
                 .get();
-            try (Stream<Path> files = Files.walk(this.path)) {
+            try {
                 // TODO try to find a more robust heuristic
-                final List<Path> foundPaths = files.filter(f -> f.toString()
-                    .contains(((AbstractTypeDeclaration) comp.types()
-                        .get(0)).getName()
-                            .getIdentifier()))
-                    .collect(Collectors.toList());
+                final String identifier = ((AbstractTypeDeclaration) comp.types()
+                    .get(0)).getName()
+                        .getIdentifier();
+                final Optional<Path> foundPath = this.findComponentFile(identifier);
 
-                if (!foundPaths.isEmpty()) {
+                if (foundPath.isPresent()) {
                     serviceNames.forEach(serviceName -> {
-                        if (foundPaths.get(0)
+                        if (foundPath.get()
                             .toString()
                             .contains(serviceName)) {
-                            if (!serviceToCompMapping.containsKey(serviceName)) {
-                                serviceToCompMapping.put(serviceName, new HashSet<>());
-                            }
-                            serviceToCompMapping.get(serviceName)
+                            serviceToCompMapping.computeIfAbsent(serviceName, x -> new HashSet<>())
                                 .add(comp);
                         }
                     });
@@ -148,6 +146,17 @@ public class DockerParser {
         return serviceToCompMapping;
     }
 
+    /**
+     * Finds the file declaring the type with the given identifier. Public types are declared in a
+     * file named after them, so the file is looked up by name. Components whose first type is
+     * declared in a differently named file are not assigned to any service.
+     */
+    private Optional<Path> findComponentFile(final String identifier) {
+        return this.fileIndex.findByName(identifier + ".java")
+            .stream()
+            .findFirst();
+    }
+
     public Map<String, Set<CompilationUnit>> getMapping() {
         return this.mapping;
     }
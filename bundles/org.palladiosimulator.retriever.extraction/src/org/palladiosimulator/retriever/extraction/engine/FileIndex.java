@@ -0,0 +1,205 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+/**
+ * An index of all regular files below an input folder. The folder is walked exactly once, the
+ * files are bucketed by extension and by file name. The index is shared via the
+ * {@link RetrieverBlackboard}, so that discoverers and rules do not have to walk the file system
+ * again.
+ */
+public final class FileIndex {
+    public static final String PARTITION_ID = "org.palladiosimulator.retriever.extraction.engine.fileindex";
+
+    private static final Logger LOG = Logger.getLogger(FileIndex.class);
+
+    private final Path root;
+    private final Map<Path, Entry> entries;
+    private final Map<String, List<Path>> pathsByExtension;
+    private final Map<String, List<Path>> pathsByFileName;
+
+    /**
+     * A file found while walking the input folder.
+     */
+    public record Entry(Path path, long size, FileTime lastModified) {
+    }
+
+    private FileIndex(final Path root) {
+        this.root = root;
+        this.entries = new LinkedHashMap<>();
+        this.pathsByExtension = new HashMap<>();
+        this.pathsByFileName = new HashMap<>();
+    }
+
+    /**
+     * Walks the given folder once and indexes all regular files below it.
+     *
+     * @param root
+     *            the folder to index
+     * @return the index, which is empty if the folder could not be walked
+     */
+    public static FileIndex build(final Path root) {
+        final FileIndex index = new FileIndex(root);
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        index.add(new Entry(file, attributes.size(), attributes.lastModifiedTime()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                    LOG.warn(String.format("%s could not be indexed.", file), e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (final IOException e) {
+            LOG.error(String.format("No files could be found in %s", root), e);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the given folder from the blackboard. If there is none yet, the folder
+     * is indexed and the index is put on the blackboard.
+     *
+     * @param blackboard
+     *            the blackboard the index is shared on
+     * @param root
+     *            the folder to index
+     * @return the shared index of the folder
+     */
+    public static FileIndex of(final RetrieverBlackboard blackboard, final Path root) {
+        synchronized (blackboard) {
+            final Optional<FileIndex> existingIndex = get(blackboard);
+            if (existingIndex.isPresent() && existingIndex.get().root.equals(root)) {
+                return existingIndex.get();
+            }
+            final FileIndex index = build(root);
+            blackboard.addPartition(PARTITION_ID, index);
+            return index;
+        }
+    }
+
+    /**
+     * Returns the index on the blackboard, if any discoverer has created one.
+     *
+     * @param blackboard
+     *            the blackboard the index is shared on
+     * @return the shared index, or an empty optional if there is none
+     */
+    public static Optional<FileIndex> get(final RetrieverBlackboard blackboard) {
+        synchronized (blackboard) {
+            if (!blackboard.hasPartition(PARTITION_ID)) {
+                return Optional.empty();
+            }
+            final Object partition = blackboard.getPartition(PARTITION_ID);
+            if (partition instanceof FileIndex index) {
+                return Optional.of(index);
+            }
+            return Optional.empty();
+        }
+    }
+
+    private void add(final Entry entry) {
+        final Path path = entry.path();
+        this.entries.put(path, entry);
+        final String fileName = path.getFileName()
+            .toString();
+        this.pathsByFileName.computeIfAbsent(fileName, x -> new ArrayList<>())
+            .add(path);
+        this.pathsByExtension.computeIfAbsent(extensionOf(fileName), x -> new ArrayList<>())
+            .add(path);
+    }
+
+    private static String extensionOf(final String fileName) {
+        final int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart < 0) {
+            return "";
+        }
+        return fileName.substring(extensionStart)
+            .toLowerCase(Locale.ROOT);
+    }
+
+    public Path getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Finds all files whose name ends with one of the given suffixes, ignoring case. A suffix is
+     * usually an extension like ".java".
+     *
+     * @param suffixes
+     *            the suffixes to look for
+     * @return the matching files in the order they were found in
+     */
+    public Stream<Path> find(final String... suffixes) {
+        return Arrays.stream(suffixes)
+            .map(suffix -> suffix.toLowerCase(Locale.ROOT))
+            .distinct()
+            .flatMap(suffix -> this.pathsByExtension.getOrDefault(extensionOf(suffix), List.of())
+                .stream()
+                .filter(path -> path.getFileName()
+                    .toString()
+                    .toLowerCase(Locale.ROOT)
+                    .endsWith(suffix)));
+    }
+
+    /**
+     * Finds all files with exactly the given name.
+     *
+     * @param fileName
+     *            the file name, e.g. "pom.xml"
+     * @return the matching files in the order they were found in
+     */
+    public List<Path> findByName(final String fileName) {
+        return Collections.unmodifiableList(this.pathsByFileName.getOrDefault(fileName, List.of()));
+    }
+
+    /**
+     * @return the names of all indexed files
+     */
+    public Set<String> getFileNames() {
+        return Collections.unmodifiableSet(this.pathsByFileName.keySet());
+    }
+
+    public boolean contains(final Path path) {
+        return this.entries.containsKey(path);
+    }
+
+    public Optional<Entry> getEntry(final Path path) {
+        return Optional.ofNullable(this.entries.get(path));
+    }
+
+    public Stream<Entry> entries() {
+        return this.entries.values()
+            .stream();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+}
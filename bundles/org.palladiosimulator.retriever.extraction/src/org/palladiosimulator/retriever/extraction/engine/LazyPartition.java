@@ -0,0 +1,182 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A read-only discovered-file partition whose values are loaded on demand. The paths are known up
+ * front, but each file is only parsed on the first access to its value. The result is memoized,
+ * either strongly or via a soft reference that the garbage collector may clear, in which case the
+ * file is parsed again on the next access.
+ * <p>
+ * Files that could not be parsed are removed from the partition once they have been loaded, so
+ * iterating over the entries or values never yields {@code null}. Until then, the key set, size
+ * and {@link #containsKey(Object)} include them.
+ *
+ * @param <T>
+ *            the type of the parsed files
+ */
+public class LazyPartition<T> extends AbstractMap<Path, T> {
+
+    public enum Retention {
+        STRONG, SOFT
+    }
+
+    private final Set<Path> paths;
+    private final Function<Path, Optional<T>> loader;
+    private final Retention retention;
+    private final ConcurrentMap<Path, Object> loadedValues;
+    private final Set<Path> failedPaths;
+
+    /**
+     * @param paths
+     *            the paths of all files in the partition
+     * @param loader
+     *            parses a file, returns an empty optional if it could not be parsed
+     * @param retention
+     *            how parsed files are retained
+     */
+    public LazyPartition(final Collection<Path> paths, final Function<Path, Optional<T>> loader,
+            final Retention retention) {
+        this.paths = Collections.unmodifiableSet(new LinkedHashSet<>(paths));
+        this.loader = loader;
+        this.retention = retention;
+        this.loadedValues = new ConcurrentHashMap<>();
+        this.failedPaths = ConcurrentHashMap.newKeySet();
+    }
+
+    public LazyPartition(final Collection<Path> paths, final Function<Path, Optional<T>> loader) {
+        this(paths, loader, Retention.STRONG);
+    }
+
+    @Override
+    public T get(final Object key) {
+        if (!(key instanceof Path path) || !this.containsKey(path)) {
+            return null;
+        }
+        return this.load(path)
+            .orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<T> load(final Path path) {
+        if (this.retention == Retention.STRONG) {
+            return (Optional<T>) this.loadedValues.computeIfAbsent(path, this::parse);
+        }
+
+        final Object reference = this.loadedValues.get(path);
+        if (reference != null) {
+            final Optional<T> value = ((SoftReference<Optional<T>>) reference).get();
+            if (value != null) {
+                return value;
+            }
+        }
+        final Optional<T> value = this.parse(path);
+        this.loadedValues.put(path, new SoftReference<>(value));
+        return value;
+    }
+
+    private Optional<T> parse(final Path path) {
+        final Optional<T> value = this.loader.apply(path);
+        if (value.isEmpty()) {
+            this.failedPaths.add(path);
+        }
+        return value;
+    }
+
+    /**
+     * @return whether the file at the given path has already been parsed
+     */
+    public boolean isLoaded(final Path path) {
+        final Object value = this.loadedValues.get(path);
+        if (value instanceof SoftReference<?> reference) {
+            return reference.get() != null;
+        }
+        return value != null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.paths.contains(key) && !this.failedPaths.contains(key);
+    }
+
+    @Override
+    public Set<Path> keySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Path> iterator() {
+                return LazyPartition.this.paths.stream()
+                    .filter(path -> !LazyPartition.this.failedPaths.contains(path))
+                    .iterator();
+            }
+
+            @Override
+            public boolean contains(final Object key) {
+                return LazyPartition.this.containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return LazyPartition.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return this.paths.size() - this.failedPaths.size();
+    }
+
+    @Override
+    public Set<Map.Entry<Path, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Path, T>> iterator() {
+                final Iterator<Path> pathIterator = LazyPartition.this.paths.iterator();
+                return new Iterator<>() {
+                    private Map.Entry<Path, T> next;
+
+                    @Override
+                    public boolean hasNext() {
+                        // Files are loaded one ahead to skip those that cannot be parsed.
+                        while (this.next == null && pathIterator.hasNext()) {
+                            final Path path = pathIterator.next();
+                            this.next = LazyPartition.this.load(path)
+                                .map(value -> new SimpleImmutableEntry<>(path, value))
+                                .orElse(null);
+                        }
+                        return this.next != null;
+                    }
+
+                    @Override
+                    public Map.Entry<Path, T> next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Map.Entry<Path, T> entry = this.next;
+                        this.next = null;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LazyPartition.this.size();
+            }
+        };
+    }
+}
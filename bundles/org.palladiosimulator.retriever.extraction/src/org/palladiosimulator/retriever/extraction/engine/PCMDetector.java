@@ -2,11 +2,13 @@ package org.palladiosimulator.retriever.extraction.engine;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.log4j.Logger;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
@@ -21,6 +23,7 @@ import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
 import org.palladiosimulator.retriever.extraction.commonalities.ComponentBuilder;
 import org.palladiosimulator.retriever.extraction.commonalities.CompositeBuilder;
 import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.InterfaceIndex;
 import org.palladiosimulator.retriever.extraction.commonalities.InterfaceName;
 import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
 import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
@@ -36,14 +39,35 @@ import org.palladiosimulator.retriever.extraction.commonalities.RequirementsBuil
  * It provides methods to detect and retrieve PCM elements. After all rules are parsed, this class
  * holds the results as "simple" java objects not yet transformed to real PCM objects like PCM Basic
  * Components.
+ * <p>
+ * All detection methods may be called concurrently, e.g. by rules running in parallel. Components
+ * and composites are created atomically on their first detection. Whether an interface is detected
+ * weakly depends on the related interfaces detected so far, so detections of related interfaces are
+ * serialized. Related interfaces always share their Java interface or REST host, which selects one
+ * of a fixed number of locks. Detections of unrelated interfaces only append to concurrent
+ * collections and do not block each other. The result should only be retrieved after all
+ * detections are done.
  */
 public class PCMDetector {
     private static final Logger LOG = Logger.getLogger(PCMDetector.class);
+    private static final int LOCK_STRIPES = 64;
 
     private final Map<CompUnitOrName, ComponentBuilder> components = new ConcurrentHashMap<>();
     private final Map<String, CompositeBuilder> composites = new ConcurrentHashMap<>();
     private final ProvisionsBuilder compositeProvisions = new ProvisionsBuilder();
     private final RequirementsBuilder compositeRequirements = new RequirementsBuilder();
+    // Units by the interfaces they (weakly) provide or require, to avoid visiting every component on
+    // each detection. The index returns a superset of the related units, so candidates have to be
+    // checked again.
+    private final InterfaceIndex<CompUnitOrName> provisionIndex = new InterfaceIndex<>();
+    private final InterfaceIndex<CompUnitOrName> requirementIndex = new InterfaceIndex<>();
+    private final Object[] interfaceLocks = new Object[LOCK_STRIPES];
+
+    public PCMDetector() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.interfaceLocks[i] = new Object();
+        }
+    }
 
     private static String getFullUnitName(final CompUnitOrName unit) {
         // TODO this is potentially problematic, maybe restructure
@@ -73,14 +97,14 @@ public class PCMDetector {
 
     public void detectComponent(final CompUnitOrName unit) {
         if (!unit.isUnit()) {
-            this.components.put(unit, new ComponentBuilder(unit));
+            this.getOrCreateComponent(unit);
             return;
         }
         for (final Object type : unit.compilationUnit()
             .get()
             .types()) {
             if (type instanceof TypeDeclaration) {
-                this.components.put(unit, new ComponentBuilder(unit));
+                this.getOrCreateComponent(unit);
                 final ITypeBinding binding = ((TypeDeclaration) type).resolveBinding();
                 this.detectProvidedInterfaceWeakly(unit, binding);
             }
@@ -93,9 +117,7 @@ public class PCMDetector {
 
     private void detectRequiredInterface(final CompUnitOrName unit, final InterfaceName interfaceName,
             final boolean compositeRequired) {
-        if (this.components.get(unit) == null) {
-            this.components.put(unit, new ComponentBuilder(unit));
-        }
+        this.getOrCreateComponent(unit);
         final EntireInterface iface = new EntireInterface(interfaceName);
         this.detectRequiredInterface(unit, compositeRequired, false, iface);
     }
@@ -110,9 +132,7 @@ public class PCMDetector {
 
     private void detectRequiredInterface(final CompUnitOrName unit, final FieldDeclaration field,
             final boolean compositeRequired, final boolean detectWeakly) {
-        if (this.components.get(unit) == null) {
-            this.components.put(unit, new ComponentBuilder(unit));
-        }
+        this.getOrCreateComponent(unit);
         @SuppressWarnings("unchecked")
         final List<OperationInterface> ifaces = ((List<VariableDeclaration>) field.fragments()).stream()
             .map(x -> x.resolveBinding())
@@ -124,9 +144,7 @@ public class PCMDetector {
     }
 
     public void detectRequiredInterface(final CompUnitOrName unit, final SingleVariableDeclaration parameter) {
-        if (this.components.get(unit) == null) {
-            this.components.put(unit, new ComponentBuilder(unit));
-        }
+        this.getOrCreateComponent(unit);
         final IVariableBinding parameterBinding = parameter.resolveBinding();
         if (parameterBinding == null) {
             LOG.warn("Unresolved parameter binding " + parameter.getName() + " detected in " + getFullUnitName(unit)
@@ -147,28 +165,31 @@ public class PCMDetector {
     private void detectRequired(final CompUnitOrName unit, final boolean compositeRequired, final boolean detectWeakly,
             final Collection<OperationInterface> ifaces) {
         for (final OperationInterface iface : ifaces) {
-            final boolean isProvided = this.compositeProvisions.containsRelated(iface) || this.components.values()
-                .stream()
-                .anyMatch(component -> component.provisions()
-                    .containsRelated(iface));
-            if (!isProvided && detectWeakly) {
-                this.components.get(unit)
-                    .requirements()
-                    .addWeakly(iface);
-                if (compositeRequired) {
-                    this.compositeRequirements.addWeakly(iface);
-                }
-            } else {
-                this.components.get(unit)
-                    .requirements()
-                    .add(iface);
-                this.components.values()
-                    .stream()
-                    .forEach(component -> component.provisions()
-                        .strengthenIfPresent(iface));
-                this.compositeProvisions.strengthenIfPresent(iface);
-                if (compositeRequired) {
-                    this.compositeRequirements.add(iface);
+            synchronized (this.lockFor(iface)) {
+                final boolean isProvided = this.compositeProvisions.containsRelated(iface)
+                        || this.findProviders(iface)
+                            .anyMatch(component -> component.provisions()
+                                .containsRelated(iface));
+                if (!isProvided && detectWeakly) {
+                    this.getOrCreateComponent(unit)
+                        .requirements()
+                        .addWeakly(iface);
+                    this.requirementIndex.put(iface, unit);
+                    if (compositeRequired) {
+                        this.compositeRequirements.addWeakly(iface);
+                    }
+                } else {
+                    this.getOrCreateComponent(unit)
+                        .requirements()
+                        .add(iface);
+                    this.requirementIndex.put(iface, unit);
+                    this.findProviders(iface)
+                        .forEach(component -> component.provisions()
+                            .strengthenIfPresent(iface));
+                    this.compositeProvisions.strengthenIfPresent(iface);
+                    if (compositeRequired) {
+                        this.compositeRequirements.add(iface);
+                    }
                 }
             }
         }
@@ -224,50 +245,88 @@ public class PCMDetector {
 
     private void detectProvidedOperation(final CompUnitOrName unit, final IMethodBinding method,
             final OperationName name, final boolean compositeProvided, final boolean detectWeakly) {
-        if (this.components.get(unit) == null) {
-            this.components.put(unit, new ComponentBuilder(unit));
-        }
+        this.getOrCreateComponent(unit);
         final OperationInterface provision = new Operation(method, name);
         this.detectProvidedInterface(unit, provision, compositeProvided, detectWeakly);
     }
 
     private void detectProvidedInterface(final CompUnitOrName unit, final OperationInterface iface,
             final boolean compositeProvided, final boolean detectWeakly) {
-        final boolean isRequired = this.compositeRequirements.containsRelated(iface) || this.components.values()
-            .stream()
-            .anyMatch(component -> component.requirements()
-                .containsRelated(iface));
-        if (!isRequired && detectWeakly) {
-            this.components.get(unit)
-                .provisions()
-                .addWeakly(iface);
-            if (compositeProvided) {
-                this.compositeProvisions.addWeakly(iface);
+        synchronized (this.lockFor(iface)) {
+            final boolean isRequired = this.compositeRequirements.containsRelated(iface)
+                    || this.findRequirers(iface)
+                        .anyMatch(component -> component.requirements()
+                            .containsRelated(iface));
+            if (!isRequired && detectWeakly) {
+                this.getOrCreateComponent(unit)
+                    .provisions()
+                    .addWeakly(iface);
+                this.provisionIndex.put(iface, unit);
+                if (compositeProvided) {
+                    this.compositeProvisions.addWeakly(iface);
+                }
+            } else {
+                this.getOrCreateComponent(unit)
+                    .provisions()
+                    .add(iface);
+                this.provisionIndex.put(iface, unit);
+                this.findRequirers(iface)
+                    .forEach(component -> component.requirements()
+                        .strengthenIfPresent(iface));
+                this.compositeRequirements.strengthenIfPresent(iface);
+                if (compositeProvided) {
+                    this.compositeProvisions.add(iface);
+                }
             }
-        } else {
-            this.components.get(unit)
-                .provisions()
-                .add(iface);
-            this.components.values()
-                .stream()
-                .forEach(component -> component.requirements()
-                    .strengthenIfPresent(iface));
-            this.compositeRequirements.strengthenIfPresent(iface);
-            if (compositeProvided) {
-                this.compositeProvisions.add(iface);
+        }
+    }
+
+    private ComponentBuilder getOrCreateComponent(final CompUnitOrName unit) {
+        return this.components.computeIfAbsent(unit, ComponentBuilder::new);
+    }
+
+    /**
+     * Selects the lock for detections of the given interface. Interfaces can only be part of each
+     * other if their names start with the same Java interface or REST host, i.e. the same segment up
+     * to the first '/', '#' or '['.
+     */
+    private Object lockFor(final OperationInterface iface) {
+        final String name = iface.getName()
+            .toString();
+        int familyEnd = name.length();
+        for (final char separator : new char[] { '/', '#', '[' }) {
+            final int index = name.indexOf(separator);
+            if (index >= 0 && index < familyEnd) {
+                familyEnd = index;
             }
         }
+        final int stripe = Math.floorMod(name.substring(0, familyEnd)
+            .hashCode(), LOCK_STRIPES);
+        return this.interfaceLocks[stripe];
+    }
+
+    /**
+     * @return the components that may provide interfaces related to the given one
+     */
+    private Stream<ComponentBuilder> findProviders(final OperationInterface iface) {
+        return this.provisionIndex.findRelated(iface)
+            .stream()
+            .map(this.components::get);
+    }
+
+    /**
+     * @return the components that may require interfaces related to the given one
+     */
+    private Stream<ComponentBuilder> findRequirers(final OperationInterface iface) {
+        return this.requirementIndex.findRelated(iface)
+            .stream()
+            .map(this.components::get);
     }
 
     public void detectPartOfComposite(final CompUnitOrName unit, final String compositeName) {
-        if (this.components.get(unit) == null) {
-            this.components.put(unit, new ComponentBuilder(unit));
-        }
-        if (!this.composites.containsKey(compositeName)) {
-            this.composites.put(compositeName, new CompositeBuilder(compositeName));
-        }
-        this.composites.get(compositeName)
-            .addPart(this.components.get(unit));
+        final ComponentBuilder component = this.getOrCreateComponent(unit);
+        this.composites.computeIfAbsent(compositeName, CompositeBuilder::new)
+            .addPart(component);
     }
 
     public void detectCompositeRequiredInterface(final CompUnitOrName unit, final InterfaceName interfaceName) {
@@ -283,6 +342,22 @@ public class PCMDetector {
         return this.components.keySet();
     }
 
+    public Map<CompUnitOrName, ComponentBuilder> getComponentBuilders() {
+        return Collections.unmodifiableMap(this.components);
+    }
+
+    public Map<String, CompositeBuilder> getCompositeBuilders() {
+        return Collections.unmodifiableMap(this.composites);
+    }
+
+    public ProvisionsBuilder getCompositeProvisions() {
+        return this.compositeProvisions;
+    }
+
+    public RequirementsBuilder getCompositeRequirements() {
+        return this.compositeRequirements;
+    }
+
     public PCMDetectionResult getResult() {
         return new PCMDetectionResult(this.components, this.composites, this.compositeProvisions,
                 this.compositeRequirements);
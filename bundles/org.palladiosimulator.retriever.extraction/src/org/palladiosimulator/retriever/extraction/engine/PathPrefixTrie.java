@@ -0,0 +1,153 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A map from paths to values that additionally finds the value of the longest registered ancestor
+ * of a path, e.g. the hostname of the project a file belongs to. The paths are stored in a trie of
+ * their name elements, so a lookup takes time proportional to the depth of the path instead of the
+ * number of registered paths.
+ * <p>
+ * The {@code null} key is supported for compatibility with the maps previously used in its place,
+ * but it is never an ancestor of any path.
+ *
+ * @param <V>
+ *            the type of the values
+ */
+public class PathPrefixTrie<V> extends AbstractMap<Path, V> {
+
+    private static final class Node {
+        private final Map<Path, Node> children = new HashMap<>();
+        private Path key;
+    }
+
+    // Keyed by the root component, which is null for relative paths.
+    private final Map<Path, Node> roots;
+    private final Map<Path, V> entries;
+
+    public PathPrefixTrie() {
+        this.roots = new HashMap<>();
+        this.entries = new LinkedHashMap<>();
+    }
+
+    public PathPrefixTrie(final Map<? extends Path, ? extends V> map) {
+        this();
+        this.putAll(map);
+    }
+
+    /**
+     * Views a hostname or route partition as a trie. If the partition was published as a trie, it
+     * is returned as is, otherwise it is copied.
+     *
+     * @param partition
+     *            the partition, may be null
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PathPrefixTrie<V> of(final Object partition) {
+        if (partition instanceof PathPrefixTrie<?> trie) {
+            return (PathPrefixTrie<V>) trie;
+        }
+        if (partition instanceof Map<?, ?> map) {
+            return new PathPrefixTrie<>((Map<Path, V>) map);
+        }
+        return new PathPrefixTrie<>();
+    }
+
+    /**
+     * Finds the longest key that the given path starts with, including the path itself.
+     *
+     * @return the key, or an empty optional if no key is an ancestor of the path
+     */
+    public synchronized Optional<Path> longestPrefix(final Path path) {
+        if (path == null) {
+            return Optional.empty();
+        }
+        Node node = this.roots.get(path.getRoot());
+        Path longestPrefix = null;
+        for (int i = 0; node != null; i++) {
+            if (node.key != null) {
+                longestPrefix = node.key;
+            }
+            if (i == path.getNameCount()) {
+                break;
+            }
+            node = node.children.get(path.getName(i));
+        }
+        return Optional.ofNullable(longestPrefix);
+    }
+
+    /**
+     * Finds the value of the longest key that the given path starts with, including the path
+     * itself.
+     *
+     * @return the value, or an empty optional if no key is an ancestor of the path
+     */
+    public synchronized Optional<V> longestPrefixValue(final Path path) {
+        return this.longestPrefix(path)
+            .map(this.entries::get);
+    }
+
+    @Override
+    public synchronized V put(final Path key, final V value) {
+        if (key != null && !this.entries.containsKey(key)) {
+            Node node = this.roots.computeIfAbsent(key.getRoot(), x -> new Node());
+            for (final Path name : key) {
+                node = node.children.computeIfAbsent(name, x -> new Node());
+            }
+            node.key = key;
+        }
+        return this.entries.put(key, value);
+    }
+
+    @Override
+    public synchronized V remove(final Object key) {
+        if (!(key instanceof Path path) || !this.entries.containsKey(path)) {
+            return this.entries.remove(key);
+        }
+        Node node = this.roots.get(path.getRoot());
+        for (final Path name : path) {
+            node = node.children.get(name);
+        }
+        node.key = null;
+        // Empty nodes are kept, they are reused if the path is registered again.
+        return this.entries.remove(path);
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.roots.clear();
+        this.entries.clear();
+    }
+
+    @Override
+    public synchronized V get(final Object key) {
+        return this.entries.get(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(final Object key) {
+        return this.entries.containsKey(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * The returned set is a read-only snapshot, later modifications of the trie are not reflected
+     * in it. The same holds for {@link #keySet()} and {@link #values()}, which are based on it.
+     */
+    @Override
+    public synchronized Set<Map.Entry<Path, V>> entrySet() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.entries))
+            .entrySet();
+    }
+}
@@ -9,7 +9,6 @@ import java.util.stream.Collectors;
 import org.apache.log4j.Logger;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.Annotation;
-import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
@@ -74,13 +73,11 @@ public class RuleHelper {
     }
 
     public static boolean isUnitAnnotatedWithName(final CompilationUnit unit, final String... names) {
-        final List<AbstractTypeDeclaration> types = cast(unit.types(), AbstractTypeDeclaration.class);
+        final UnitFacts facts = UnitFacts.of(unit);
 
         for (final String name : names) {
-            for (final AbstractTypeDeclaration abstType : types) {
-                if (isClassifierAnnotatedWithName(abstType, name)) {
-                    return true;
-                }
+            if (facts.isAnnotatedWithName(name)) {
+                return true;
             }
         }
         return false;
@@ -126,40 +123,10 @@ public class RuleHelper {
     }
 
     public static List<MethodDeclaration> getMethods(final CompilationUnit unit) {
-        final List<MethodDeclaration> methods = new ArrayList<>();
         // TODO: Methods of sub-classes are not returned
-
-        final List<AbstractTypeDeclaration> types = cast(unit.types(), AbstractTypeDeclaration.class);
-
-        for (final AbstractTypeDeclaration abstType : types) {
-            if (abstType instanceof TypeDeclaration) {
-                methods.addAll(getMethods((TypeDeclaration) abstType));
-
-            } else if (abstType instanceof EnumDeclaration) {
-                final EnumDeclaration enumDecl = (EnumDeclaration) abstType;
-
-                final List<BodyDeclaration> bodies = cast(enumDecl.bodyDeclarations(), BodyDeclaration.class);
-
-                for (final BodyDeclaration body : bodies) {
-                    if (body instanceof MethodDeclaration) {
-                        methods.add((MethodDeclaration) body);
-                    }
-                }
-
-            } else if (abstType instanceof AnnotationTypeDeclaration) {
-                final AnnotationTypeDeclaration anno = (AnnotationTypeDeclaration) abstType;
-
-                final List<BodyDeclaration> bodies = cast(anno.bodyDeclarations(), BodyDeclaration.class);
-
-                for (final BodyDeclaration body : bodies) {
-                    if (body instanceof MethodDeclaration) {
-                        methods.add((MethodDeclaration) body);
-                    }
-                }
-            }
-        }
-
-        return methods;
+        // The facts are shared by all rules, so callers get a copy they may modify.
+        return new ArrayList<>(UnitFacts.of(unit)
+            .getMethods());
     }
 
     public static List<MethodDeclaration> getMethods(final TypeDeclaration type) {
@@ -177,40 +144,8 @@ public class RuleHelper {
     }
 
     public static List<FieldDeclaration> getFields(final CompilationUnit unit) {
-        final List<FieldDeclaration> fields = new ArrayList<>();
-
-        final List<AbstractTypeDeclaration> types = cast(unit.types(), AbstractTypeDeclaration.class);
-
-        for (final AbstractTypeDeclaration abstType : types) {
-            if (abstType instanceof TypeDeclaration) {
-                final TypeDeclaration type = (TypeDeclaration) abstType;
-                fields.addAll(List.of(type.getFields()));
-
-            } else if (abstType instanceof EnumDeclaration) {
-                final EnumDeclaration enumDecl = (EnumDeclaration) abstType;
-
-                final List<BodyDeclaration> bodies = cast(enumDecl.bodyDeclarations(), BodyDeclaration.class);
-
-                for (final BodyDeclaration body : bodies) {
-                    if (body instanceof FieldDeclaration) {
-                        fields.add((FieldDeclaration) body);
-                    }
-                }
-
-            } else if (abstType instanceof AnnotationTypeDeclaration) {
-                final AnnotationTypeDeclaration anno = (AnnotationTypeDeclaration) abstType;
-
-                final List<BodyDeclaration> bodies = cast(anno.bodyDeclarations(), BodyDeclaration.class);
-
-                for (final BodyDeclaration body : bodies) {
-                    if (body instanceof FieldDeclaration) {
-                        fields.add((FieldDeclaration) body);
-                    }
-                }
-            }
-        }
-
-        return fields;
+        return new ArrayList<>(UnitFacts.of(unit)
+            .getFields());
     }
 
     public static List<SingleVariableDeclaration> getParameters(final MethodDeclaration method) {
@@ -375,20 +310,23 @@ public class RuleHelper {
         return false;
     }
 
+    /**
+     * Checks whether a type declared in the unit is, extends or implements a type with the given
+     * name, as {@link #isImplementingOrExtending(ITypeBinding, String)} does.
+     */
     public static boolean isImplementingOrExtending(final CompilationUnit unit, final String ifaceName) {
-        final List<AbstractTypeDeclaration> types = cast(unit.types(), AbstractTypeDeclaration.class);
-
-        for (final AbstractTypeDeclaration abstType : types) {
-            if (abstType instanceof TypeDeclaration) {
-                final TypeDeclaration type = (TypeDeclaration) abstType;
-                if (isImplementingOrExtending(type.resolveBinding(), ifaceName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return UnitFacts.of(unit)
+            .isImplementingOrExtending(ifaceName);
     }
 
+    /**
+     * Checks whether the type is, extends or implements a type with the given name. The name may be
+     * simple, e.g. {@code "List"}, or fully qualified, e.g. {@code "java.util.List"}, and the type
+     * arguments of a parameterized type may be omitted.
+     * <p>
+     * Earlier versions only compared simple names, so a check against a fully qualified name, which
+     * used to fail for every type, now matches the types extending or implementing it.
+     */
     public static boolean isImplementingOrExtending(final ITypeBinding binding, final String ifaceName) {
         if (binding == null) {
             LOG.warn(
@@ -396,30 +334,8 @@ public class RuleHelper {
             return false;
         }
 
-        if (equalsWithGeneric(binding.getName(), ifaceName)) {
-            return true;
-        }
-        final ITypeBinding superClass = binding.getSuperclass();
-        if (superClass != null && isImplementingOrExtending(superClass, ifaceName)) {
-            return true;
-        }
-        for (final ITypeBinding type : binding.getInterfaces()) {
-            if (equalsWithGeneric(type.getName(), ifaceName) || isImplementingOrExtending(type, ifaceName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static boolean equalsWithGeneric(final String withGeneric, final String withoutGeneric) {
-        if (!withGeneric.startsWith(withoutGeneric)) {
-            return false;
-        }
-        final String rest = withGeneric.substring(withoutGeneric.length());
-        if (!rest.isEmpty() && (!rest.startsWith("<") || !rest.endsWith(">"))) {
-            return false;
-        }
-        return true;
+        return SupertypeIndex.getSupertypeNames(binding)
+            .contains(ifaceName);
     }
 
     public static boolean isClassExtending(final CompilationUnit unit) {
@@ -473,8 +389,7 @@ public class RuleHelper {
     }
 
     public static List<MethodDeclaration> getAllPublicMethods(final CompilationUnit unit) {
-        return getMethods(unit).stream()
-            .filter(MethodDeclaration::isConstructor)
+        return getConstructors(unit).stream()
             .filter(x -> cast(x.modifiers(), IExtendedModifier.class).stream()
                 .filter(IExtendedModifier::isModifier)
                 .map(Modifier.class::cast)
@@ -483,9 +398,8 @@ public class RuleHelper {
     }
 
     public static List<MethodDeclaration> getConstructors(final CompilationUnit unit) {
-        return getMethods(unit).stream()
-            .filter(MethodDeclaration::isConstructor)
-            .collect(Collectors.toList());
+        return new ArrayList<>(UnitFacts.of(unit)
+            .getConstructors());
     }
 
     public static boolean isConstructorAnnotatedWithName(final MethodDeclaration constructor, final String name) {
@@ -569,17 +483,13 @@ public class RuleHelper {
 
     public static String getUnitAnnotationStringValue(final CompilationUnit unit, final String annotationName,
             final String memberName) {
-        final List<AbstractTypeDeclaration> types = cast(unit.types(), AbstractTypeDeclaration.class);
-
-        final List<Annotation> annotations = types.stream()
-            .map(y -> cast(y.modifiers(), IExtendedModifier.class).stream()
-                .filter(x -> x.isAnnotation())
-                .map(Annotation.class::cast)
-                .filter(x -> x.getTypeName()
-                    .getFullyQualifiedName()
-                    .endsWith(annotationName))
-                .collect(Collectors.toList()))
-            .collect(() -> new ArrayList<>(), (acc, x) -> acc.addAll(x), (acc1, acc2) -> acc1.addAll(acc2));
+        final List<Annotation> annotations = UnitFacts.of(unit)
+            .getAnnotations()
+            .stream()
+            .filter(x -> x.getTypeName()
+                .getFullyQualifiedName()
+                .endsWith(annotationName))
+            .collect(Collectors.toList());
 
         for (final Annotation annotation : annotations) {
 
@@ -613,7 +523,7 @@ public class RuleHelper {
     // Concentrate the warnings to this single method. It is necessary due to the
     // Eclipse JDT DOM API.
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private static <T> List<T> cast(final List list, final Class<T> clazz) {
+    static <T> List<T> cast(final List list, final Class<T> clazz) {
         if (!list.isEmpty() && !clazz.isInstance(list.get(0))) {
             throw new ClassCastException("Illegal cast in EclipseRuleHelper!" + "\n" + list.get(0)
                 .getClass() + " -> " + clazz);
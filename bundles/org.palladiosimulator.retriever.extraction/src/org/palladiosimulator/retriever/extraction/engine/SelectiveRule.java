@@ -0,0 +1,25 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.util.Set;
+
+/**
+ * A rule that only handles some of the discovered paths. Only paths contained in one of the
+ * handled partitions or with a file name matching one of the handled patterns are routed to it.
+ * If it declares neither, it is offered every discovered path, like any other rule.
+ */
+public interface SelectiveRule {
+
+    /**
+     * @return the IDs of the discoverer partitions whose files this rule handles
+     */
+    default Set<String> getHandledPartitions() {
+        return Set.of();
+    }
+
+    /**
+     * @return glob patterns, e.g. {@code "*.gradle"}, matching the file names this rule handles
+     */
+    default Set<String> getHandledFileNames() {
+        return Set.of();
+    }
+}
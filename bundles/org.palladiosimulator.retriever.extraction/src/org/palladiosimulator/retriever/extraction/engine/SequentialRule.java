@@ -0,0 +1,9 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+/**
+ * Marks a rule that is not thread-safe, e.g. because it shares state between the files it
+ * processes. When rules are dispatched per file, all files of such a rule are processed one after
+ * another on a single thread. Other rules of the same step may still run concurrently to it.
+ */
+public interface SequentialRule {
+}
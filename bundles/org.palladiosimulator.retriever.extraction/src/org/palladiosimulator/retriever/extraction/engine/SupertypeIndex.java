@@ -0,0 +1,188 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+/**
+ * An index from the names of types to the compilation units declaring a type that is, extends or
+ * implements them, so that rules can look up all implementations of a type instead of checking
+ * every unit. An index of a partition is built once and shared via the {@link RetrieverBlackboard}.
+ * <p>
+ * The names of the supertypes of a type are computed once per type binding and reused for all of
+ * its subtypes.
+ */
+public final class SupertypeIndex {
+    public static final String PARTITION_SUFFIX = ".supertypes";
+
+    // Bindings are canonical within the environment they were resolved in, and only live as long
+    // as their ASTs do. Keys of bindings would outlive the analyzed project.
+    private static final Map<BindingReference, Set<String>> SUPERTYPE_NAMES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<ITypeBinding> COLLECTED_BINDINGS = new ReferenceQueue<>();
+
+    private final Map<String, List<Path>> unitsBySupertype;
+
+    /**
+     * @param units
+     *            the compilation units to index by their paths
+     */
+    public SupertypeIndex(final Map<Path, CompilationUnit> units) {
+        this.unitsBySupertype = new HashMap<>();
+        units.forEach((path, unit) -> {
+            if (unit != null) {
+                for (final String name : UnitFacts.of(unit)
+                    .getSupertypeNames()) {
+                    this.unitsBySupertype.computeIfAbsent(name, x -> new ArrayList<>())
+                        .add(path);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the index of a partition of compilation units from the blackboard. If there is none
+     * yet, the units are indexed and the index is put on the blackboard under the ID of the
+     * partition followed by {@link #PARTITION_SUFFIX}.
+     *
+     * @param blackboard
+     *            the blackboard the partition and its index are shared on
+     * @param partitionId
+     *            the ID of a partition mapping paths to compilation units
+     * @return the shared index, or an empty index if there is no such partition yet
+     */
+    public static SupertypeIndex of(final RetrieverBlackboard blackboard, final String partitionId) {
+        final String indexId = partitionId + PARTITION_SUFFIX;
+        synchronized (blackboard) {
+            if (blackboard.hasPartition(indexId) && blackboard.getPartition(indexId) instanceof SupertypeIndex index) {
+                return index;
+            }
+            if (!blackboard.hasPartition(partitionId)) {
+                return new SupertypeIndex(Map.of());
+            }
+
+            final SupertypeIndex index = new SupertypeIndex(
+                    blackboard.getDiscoveredFiles(partitionId, CompilationUnit.class));
+            blackboard.addPartition(indexId, index);
+            return index;
+        }
+    }
+
+    /**
+     * Returns the simple names of a type and all of its supertypes. Parameterized types are
+     * contained with and without their type arguments, and the fully qualified names of the types
+     * without type arguments are contained as well.
+     */
+    public static Set<String> getSupertypeNames(final ITypeBinding binding) {
+        expungeCollectedBindings();
+        return getSupertypeNames(binding, new Traversal());
+    }
+
+    private static Set<String> getSupertypeNames(final ITypeBinding binding, final Traversal traversal) {
+        final Set<String> cachedNames = SUPERTYPE_NAMES.get(new BindingReference(binding, null));
+        if (cachedNames != null) {
+            return cachedNames;
+        }
+        if (!traversal.visiting.add(binding)) {
+            // Hierarchies of erroneous code may be cyclic, the names of the type are already being
+            // collected further up.
+            traversal.cyclic = true;
+            return Set.of();
+        }
+
+        final Set<String> names = new HashSet<>();
+        final String name = binding.getName();
+        names.add(name);
+        final int genericStart = name.indexOf('<');
+        if (genericStart > 0 && name.endsWith(">")) {
+            names.add(name.substring(0, genericStart));
+        }
+        final String qualifiedName = binding.getErasure()
+            .getQualifiedName();
+        if (!qualifiedName.isEmpty()) {
+            names.add(qualifiedName);
+        }
+
+        final ITypeBinding superclass = binding.getSuperclass();
+        if (superclass != null) {
+            names.addAll(getSupertypeNames(superclass, traversal));
+        }
+        for (final ITypeBinding iface : binding.getInterfaces()) {
+            names.addAll(getSupertypeNames(iface, traversal));
+        }
+        traversal.visiting.remove(binding);
+
+        final Set<String> immutableNames = Set.copyOf(names);
+        // The names collected within a cycle depend on where the cycle was entered.
+        if (!traversal.cyclic) {
+            SUPERTYPE_NAMES.putIfAbsent(new BindingReference(binding, COLLECTED_BINDINGS), immutableNames);
+        }
+        return immutableNames;
+    }
+
+    private static void expungeCollectedBindings() {
+        Reference<? extends ITypeBinding> reference;
+        while ((reference = COLLECTED_BINDINGS.poll()) != null) {
+            SUPERTYPE_NAMES.remove(reference);
+        }
+    }
+
+    /**
+     * Finds the units declaring a type that is, extends or implements a type with the given name.
+     *
+     * @param typeName
+     *            the simple or fully qualified name, the type arguments of a parameterized type may
+     *            be omitted
+     * @return the paths of the matching units
+     */
+    public List<Path> findImplementingOrExtending(final String typeName) {
+        return Collections.unmodifiableList(this.unitsBySupertype.getOrDefault(typeName, List.of()));
+    }
+
+    private static final class Traversal {
+        private final Set<ITypeBinding> visiting = new HashSet<>();
+        private boolean cyclic;
+    }
+
+    /**
+     * A weak reference to a binding that compares by the identity of the binding, so that it can be
+     * used as a key of a concurrent map.
+     */
+    private static final class BindingReference extends WeakReference<ITypeBinding> {
+        private final int hashCode;
+
+        BindingReference(final ITypeBinding binding, final ReferenceQueue<ITypeBinding> queue) {
+            super(binding, queue);
+            this.hashCode = System.identityHashCode(binding);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BindingReference other)) {
+                return false;
+            }
+            final ITypeBinding binding = this.get();
+            return binding != null && binding == other.get();
+        }
+    }
+}
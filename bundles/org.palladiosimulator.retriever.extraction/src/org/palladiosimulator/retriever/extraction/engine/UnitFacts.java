@@ -0,0 +1,140 @@
+package org.palladiosimulator.retriever.extraction.engine;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IExtendedModifier;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+
+/**
+ * The facts about a {@link CompilationUnit} that rules query most often, collected in a single
+ * traversal of the unit. The facts of a unit are built on first use and attached to the unit, so
+ * they are shared by all rules for as long as the unit itself is kept on the blackboard.
+ */
+public final class UnitFacts {
+    private static final Logger LOG = Logger.getLogger(UnitFacts.class);
+    private static final String PROPERTY_NAME = UnitFacts.class.getName();
+
+    private final List<Annotation> annotations;
+    private final Set<String> annotationNames;
+    private final List<MethodDeclaration> methods;
+    private final List<MethodDeclaration> constructors;
+    private final List<FieldDeclaration> fields;
+    private final Set<String> supertypeNames;
+
+    private UnitFacts(final CompilationUnit unit) {
+        final List<Annotation> annotations = new ArrayList<>();
+        final List<MethodDeclaration> methods = new ArrayList<>();
+        final List<FieldDeclaration> fields = new ArrayList<>();
+        final Set<String> supertypeNames = new HashSet<>();
+
+        for (final AbstractTypeDeclaration abstType : RuleHelper.cast(unit.types(), AbstractTypeDeclaration.class)) {
+            for (final IExtendedModifier modifier : RuleHelper.cast(abstType.modifiers(), IExtendedModifier.class)) {
+                if (modifier.isAnnotation()) {
+                    annotations.add((Annotation) modifier);
+                }
+            }
+
+            if (abstType instanceof TypeDeclaration type) {
+                methods.addAll(List.of(type.getMethods()));
+                fields.addAll(List.of(type.getFields()));
+
+                final ITypeBinding binding = type.resolveBinding();
+                if (binding == null) {
+                    LOG.warn("Could not resolve type binding for \"" + type.getName()
+                            + "\". Its supertypes are unknown");
+                } else {
+                    supertypeNames.addAll(SupertypeIndex.getSupertypeNames(binding));
+                }
+            } else if (abstType instanceof EnumDeclaration || abstType instanceof AnnotationTypeDeclaration) {
+                for (final BodyDeclaration body : RuleHelper.cast(abstType.bodyDeclarations(),
+                        BodyDeclaration.class)) {
+                    if (body instanceof MethodDeclaration method) {
+                        methods.add(method);
+                    } else if (body instanceof FieldDeclaration field) {
+                        fields.add(field);
+                    }
+                }
+            }
+        }
+
+        this.annotations = List.copyOf(annotations);
+        this.annotationNames = Set.copyOf(annotations.stream()
+            .map(x -> x.getTypeName()
+                .getFullyQualifiedName())
+            .toList());
+        this.methods = List.copyOf(methods);
+        this.constructors = methods.stream()
+            .filter(MethodDeclaration::isConstructor)
+            .toList();
+        this.fields = List.copyOf(fields);
+        this.supertypeNames = Set.copyOf(supertypeNames);
+    }
+
+    /**
+     * Returns the facts about a unit, collecting them if this is the first query for the unit.
+     */
+    public static UnitFacts of(final CompilationUnit unit) {
+        synchronized (unit) {
+            if (unit.getProperty(PROPERTY_NAME) instanceof UnitFacts facts) {
+                return facts;
+            }
+            final UnitFacts facts = new UnitFacts(unit);
+            // Properties are not part of the AST, setting one does not invalidate the bindings.
+            unit.setProperty(PROPERTY_NAME, facts);
+            return facts;
+        }
+    }
+
+    /**
+     * @return the annotations of the types declared in the unit, in declaration order
+     */
+    public List<Annotation> getAnnotations() {
+        return this.annotations;
+    }
+
+    public boolean isAnnotatedWithName(final String name) {
+        return this.annotationNames.contains(name);
+    }
+
+    public List<MethodDeclaration> getMethods() {
+        return this.methods;
+    }
+
+    public List<MethodDeclaration> getConstructors() {
+        return this.constructors;
+    }
+
+    public List<FieldDeclaration> getFields() {
+        return this.fields;
+    }
+
+    /**
+     * @return the names of the types declared in the unit and of all of their supertypes, as
+     *         returned by {@link SupertypeIndex#getSupertypeNames(ITypeBinding)}
+     */
+    public Set<String> getSupertypeNames() {
+        return this.supertypeNames;
+    }
+
+    /**
+     * Checks whether a type declared in the unit is, extends or implements a type with the given
+     * simple or fully qualified name, where the type arguments of a parameterized type may be
+     * omitted.
+     */
+    public boolean isImplementingOrExtending(final String typeName) {
+        return this.supertypeNames.contains(typeName);
+    }
+}
@@ -0,0 +1,4 @@
+package billing;
+
+public class BillingService {
+}
@@ -0,0 +1,4 @@
+package gateway;
+
+public class Gateway {
+}
@@ -0,0 +1,4 @@
+package shared;
+
+public class Helper {
+}
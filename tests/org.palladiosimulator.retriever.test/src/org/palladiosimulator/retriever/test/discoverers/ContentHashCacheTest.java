@@ -0,0 +1,193 @@
+package org.palladiosimulator.retriever.test.discoverers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
+import org.palladiosimulator.retriever.extraction.discoverers.JsonDiscoverer;
+import org.palladiosimulator.retriever.extraction.discoverers.cache.ContentHashCache;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.Discoverer;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+public class ContentHashCacheTest {
+
+    private static final String DISCOVERER_ID = "org.palladiosimulator.retriever.test.discoverer";
+    private static final byte[] CONTENT = "a: b".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_CONTENT = "c: d".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cacheIsDisabledWithoutDirectory() throws IOException {
+        final ContentHashCache cache = ContentHashCache.of(new RetrieverConfigurationImpl(), DISCOVERER_ID);
+
+        assertFalse(cache.isEnabled());
+        cache.store(CONTENT, "value");
+        assertEquals(Optional.empty(), cache.load(CONTENT));
+        assertTrue(this.listFiles()
+            .isEmpty());
+    }
+
+    @Test
+    void storedValuesAreLoadedByContent() {
+        final ContentHashCache cache = this.createCache(null);
+        final ArrayList<Object> documents = new ArrayList<>(List.of(Map.of("a", "b"), 1, 2.5));
+
+        assertTrue(cache.isEnabled());
+        assertEquals(Optional.empty(), cache.load(CONTENT));
+        cache.store(CONTENT, documents);
+
+        assertEquals(Optional.of(documents), cache.load(CONTENT));
+        assertEquals(Optional.of(documents), this.createCache(null)
+            .load(CONTENT, ArrayList.class));
+        assertEquals(Optional.empty(), cache.load(CONTENT, Map.class));
+        assertEquals(Optional.empty(), cache.load(OTHER_CONTENT));
+    }
+
+    @Test
+    void corruptEntriesAreDiscarded() throws IOException {
+        final ContentHashCache cache = this.createCache(null);
+        cache.store(CONTENT, "value");
+        final Path entry = this.listFiles()
+            .get(0);
+        Files.writeString(entry, "not a serialized object");
+
+        assertEquals(Optional.empty(), cache.load(CONTENT));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    void jsonNullValuesAreKept() throws IOException, JobFailedException, UserCanceledException {
+        final Path input = Files.createDirectories(this.directory.resolve("input"));
+        final Path file = Files.writeString(input.resolve("values.json"), """
+                { "a": null, "b": { "c": null }, "d": [ 1, null ] }
+                """);
+
+        final JSONObject parsed = this.discoverJson(input)
+            .get(file);
+        final JSONObject cached = this.discoverJson(input)
+            .get(file);
+
+        assertEquals(1, this.listFiles()
+            .stream()
+            .filter(path -> !path.startsWith(input))
+            .count());
+        assertTrue(cached.has("a"));
+        assertTrue(cached.isNull("a"));
+        assertTrue(cached.getJSONObject("b")
+            .isNull("c"));
+        assertTrue(cached.getJSONArray("d")
+            .isNull(1));
+        assertTrue(parsed.similar(cached));
+    }
+
+    @Test
+    void entriesOfUnexpectedTypesAreDiscarded() throws IOException {
+        final ContentHashCache cache = this.createCache(null);
+        cache.store(CONTENT, new File("value"));
+
+        assertEquals(Optional.empty(), cache.load(CONTENT));
+        assertTrue(this.listFiles()
+            .isEmpty());
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedWhenStoring() throws IOException {
+        final ContentHashCache cache = this.createCache("1");
+        final byte[][] contents = { CONTENT, OTHER_CONTENT, "e: f".getBytes(StandardCharsets.UTF_8) };
+        for (int i = 0; i < 2; i++) {
+            cache.store(contents[i], new byte[400 * 1024]);
+            for (final Path file : this.listFiles()) {
+                if (Files.getLastModifiedTime(file)
+                    .toMillis() > i * 1000) {
+                    Files.setLastModifiedTime(file, FileTime.fromMillis(i * 1000));
+                }
+            }
+        }
+        // Using the oldest entry makes the second one the least recently used.
+        assertTrue(cache.load(contents[0])
+            .isPresent());
+
+        // The third entry exceeds the size limit.
+        cache.store(contents[2], new byte[400 * 1024]);
+
+        assertEquals(2, this.listFiles()
+            .size());
+        assertTrue(cache.load(contents[0])
+            .isPresent());
+        assertTrue(cache.load(contents[1])
+            .isEmpty());
+        assertTrue(cache.load(contents[2])
+            .isPresent());
+    }
+
+    @Test
+    void staleTemporaryFilesAreEvicted() throws IOException {
+        final ContentHashCache cache = this.createCache("1");
+        cache.store(CONTENT, "value");
+        final Path entry = this.listFiles()
+            .get(0);
+        final Path temporaryFile = Files.write(entry.resolveSibling("interrupted.tmp"), new byte[1024 * 1024]);
+        Files.setLastModifiedTime(temporaryFile, FileTime.fromMillis(0));
+
+        cache.evict();
+
+        assertEquals(List.of(entry), this.listFiles());
+    }
+
+    private ContentHashCache createCache(final String maxSizeMegabytes) {
+        final RetrieverConfiguration configuration = new RetrieverConfigurationImpl();
+        configuration.getConfig(Discoverer.class)
+            .setConfig(DISCOVERER_ID, ContentHashCache.CACHE_DIRECTORY_KEY, this.directory.toString());
+        if (maxSizeMegabytes != null) {
+            configuration.getConfig(Discoverer.class)
+                .setConfig(DISCOVERER_ID, ContentHashCache.CACHE_SIZE_KEY, maxSizeMegabytes);
+        }
+        return ContentHashCache.of(configuration, DISCOVERER_ID);
+    }
+
+    private Map<Path, JSONObject> discoverJson(final Path input) throws JobFailedException, UserCanceledException {
+        final RetrieverConfiguration configuration = new RetrieverConfigurationImpl();
+        configuration.setInputFolder(URI.createFileURI(input.toString()));
+        configuration.getConfig(Discoverer.class)
+            .setConfig(JsonDiscoverer.DISCOVERER_ID, ContentHashCache.CACHE_DIRECTORY_KEY,
+                    this.directory.resolve("cache")
+                        .toString());
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        new JsonDiscoverer().create(configuration, blackboard)
+            .execute(new NullProgressMonitor());
+        return blackboard.getDiscoveredFiles(JsonDiscoverer.DISCOVERER_ID, JSONObject.class);
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            return files.filter(Files::isRegularFile)
+                .collect(Collectors.toList());
+        }
+    }
+}
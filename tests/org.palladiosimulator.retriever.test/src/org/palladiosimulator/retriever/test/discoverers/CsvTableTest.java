@@ -0,0 +1,102 @@
+package org.palladiosimulator.retriever.test.discoverers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
+import org.palladiosimulator.retriever.extraction.discoverers.CsvDiscoverer;
+import org.palladiosimulator.retriever.extraction.discoverers.wrappers.CsvTable;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.Discoverer;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.ServiceConfiguration;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+public class CsvTableTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void rowsAreStoredByColumn() {
+        final CsvTable.Builder builder = new CsvTable.Builder(false);
+        builder.add(List.of("service", "port"));
+        builder.add(List.of("gateway", "8080"));
+        builder.add(List.of(new String("gateway")));
+        builder.add(List.of("billing", "8081", "extra"));
+        final CsvTable table = builder.build();
+
+        assertEquals(List.of("service", "port"), table.getHeader());
+        assertEquals(3, table.getRowCount());
+        assertFalse(table.isTruncated());
+        assertEquals(Optional.of(List.of("gateway", "gateway", "billing")), table.getColumn("service"));
+        assertSame(table.get(0, 0)
+            .orElseThrow(),
+                table.get(1, 0)
+                    .orElseThrow());
+        assertTrue(table.get(1, 1)
+            .isEmpty());
+        assertTrue(table.get(0, 2)
+            .isEmpty());
+        assertEquals(Optional.of("extra"), table.get(2, 2));
+    }
+
+    @Test
+    void truncatedTablesOnlyKeepHeaderAndRowCount() {
+        final CsvTable.Builder builder = new CsvTable.Builder(true);
+        builder.add(List.of("service", "port"));
+        builder.add(List.of("gateway", "8080"));
+        builder.add(List.of("billing", "8081"));
+        final CsvTable table = builder.build();
+
+        assertEquals(List.of("service", "port"), table.getHeader());
+        assertEquals(2, table.getRowCount());
+        assertTrue(table.isTruncated());
+        assertTrue(table.getColumn("service")
+            .isEmpty());
+        assertTrue(table.get(0, 0)
+            .isEmpty());
+    }
+
+    @Test
+    void filesAboveTheSizeLimitAreCounted() throws IOException, JobFailedException, UserCanceledException {
+        final Path file = Files.writeString(this.root.resolve("services.csv"), """
+                service,port
+                gateway,8080
+                billing,8081
+                "multi
+                line",8082
+                """);
+        final RetrieverConfiguration configuration = new RetrieverConfigurationImpl();
+        configuration.setInputFolder(URI.createFileURI(this.root.toString()));
+        final ServiceConfiguration<Discoverer> discovererConfig = configuration.getConfig(Discoverer.class);
+        final CsvDiscoverer discoverer = new CsvDiscoverer();
+        discovererConfig.setConfig(discoverer.getID(), CsvDiscoverer.COLUMNAR_STORAGE_KEY, "true");
+        discovererConfig.setConfig(discoverer.getID(), CsvDiscoverer.MAX_FILE_SIZE_KEY, "0");
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+
+        discoverer.create(configuration, blackboard)
+            .execute(new NullProgressMonitor());
+
+        final CsvTable table = blackboard.getDiscoveredFiles(CsvDiscoverer.TABLES_PARTITION_ID, CsvTable.class)
+            .get(file);
+        assertTrue(table.isTruncated());
+        assertEquals(List.of("service", "port"), table.getHeader());
+        assertEquals(3, table.getRowCount());
+    }
+}
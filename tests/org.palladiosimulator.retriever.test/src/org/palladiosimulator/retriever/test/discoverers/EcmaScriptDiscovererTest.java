@@ -0,0 +1,82 @@
+package org.palladiosimulator.retriever.test.discoverers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
+import org.palladiosimulator.retriever.extraction.discoverers.EcmaScriptDiscoverer;
+import org.palladiosimulator.retriever.extraction.discoverers.wrappers.EcmaScriptDiagnostic;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+public class EcmaScriptDiscovererTest {
+
+    private static final String VALID_SCRIPT = "function add(a, b) { return a + b; }";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void dependenciesAndBundlesAreSkipped() throws IOException, JobFailedException, UserCanceledException {
+        final Path source = this.createFile("src/app.js", VALID_SCRIPT);
+        this.createFile("node_modules/library/index.js", VALID_SCRIPT);
+        this.createFile("src/bower_components/library/index.js", VALID_SCRIPT);
+        this.createFile("dist/app.min.js", VALID_SCRIPT);
+        this.createFile("dist/app.bundle.js", VALID_SCRIPT);
+        this.createFile("dist/vendor.CHUNK.js", VALID_SCRIPT);
+
+        final EcmaScriptDiscoverer discoverer = new EcmaScriptDiscoverer();
+        final RetrieverBlackboard blackboard = this.discover(discoverer);
+
+        assertEquals(Set.of(source), blackboard.getDiscoveredFiles(discoverer.getID(), Object.class)
+            .keySet());
+    }
+
+    @Test
+    void diagnosticsArePublishedPerFile() throws IOException, JobFailedException, UserCanceledException {
+        final Path valid = this.createFile("valid.js", VALID_SCRIPT);
+        final Path invalid = this.createFile("invalid.js", "function broken( { return; }");
+
+        final RetrieverBlackboard blackboard = this.discover(new EcmaScriptDiscoverer());
+
+        @SuppressWarnings("unchecked")
+        final Map<Path, List<EcmaScriptDiagnostic>> diagnostics = (Map<Path, List<EcmaScriptDiagnostic>>) blackboard
+            .getPartition(EcmaScriptDiscoverer.DIAGNOSTICS_PARTITION_ID);
+        assertFalse(diagnostics.containsKey(valid));
+        assertTrue(diagnostics.containsKey(invalid));
+        assertFalse(diagnostics.get(invalid)
+            .isEmpty());
+    }
+
+    private RetrieverBlackboard discover(final EcmaScriptDiscoverer discoverer)
+            throws JobFailedException, UserCanceledException {
+        final RetrieverConfiguration configuration = new RetrieverConfigurationImpl();
+        configuration.setInputFolder(URI.createFileURI(this.root.toString()));
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+        discoverer.create(configuration, blackboard)
+            .execute(new NullProgressMonitor());
+        return blackboard;
+    }
+
+    private Path createFile(final String relativePath, final String content) throws IOException {
+        final Path file = this.root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
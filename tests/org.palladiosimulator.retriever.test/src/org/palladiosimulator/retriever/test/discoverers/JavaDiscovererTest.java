@@ -0,0 +1,74 @@
+package org.palladiosimulator.retriever.test.discoverers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.extraction.discoverers.JavaDiscoverer;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+
+public class JavaDiscovererTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void filesAreShardedByClosestModule() throws IOException {
+        final Path parent = this.createFile("pom.xml");
+        final Path service = this.createFile("service/build.gradle")
+            .getParent();
+        final Path nested = this.createFile("service/nested/pom.xml")
+            .getParent();
+        final Path parentFile = this.createFile("src/main/java/a/A.java");
+        final Path serviceFile = this.createFile("service/src/main/java/b/B.java");
+        final Path nestedFile = this.createFile("service/nested/src/main/java/c/C.java");
+        final Path otherNestedFile = this.createFile("service/nested/src/test/java/c/CTest.java");
+
+        final Map<Path, List<Path>> shards = JavaDiscoverer.shardByModule(FileIndex.build(this.root),
+                List.of(parentFile, serviceFile, nestedFile, otherNestedFile));
+
+        assertEquals(Map.of(parent.getParent(), List.of(parentFile), service, List.of(serviceFile), nested,
+                List.of(nestedFile, otherNestedFile)), shards);
+    }
+
+    @Test
+    void filesOutsideOfModulesAreShardedByRoot() throws IOException {
+        this.createFile("module/pom.xml");
+        final Path looseFile = this.createFile("scripts/Tool.java");
+
+        final Map<Path, List<Path>> shards = JavaDiscoverer.shardByModule(FileIndex.build(this.root),
+                List.of(looseFile));
+
+        assertEquals(Map.of(this.root, List.of(looseFile)), shards);
+    }
+
+    @Test
+    void conventionalSourceRootsAreFound() {
+        final Path module = this.root.resolve("module");
+        final List<Path> sourceFiles = List.of(module.resolve("src/main/java/a/A.java"),
+                module.resolve("src/main/java/a/b/B.java"), module.resolve("src/test/java/a/ATest.java"),
+                module.resolve("lib/java/C.java"), this.root.resolve("D.java"));
+
+        assertEquals(Set.of(module.resolve("src/main/java"), module.resolve("src/test/java")),
+                JavaDiscoverer.findSourceRoots(sourceFiles));
+    }
+
+    @Test
+    void relativeSourceRootsStayRelative() {
+        assertEquals(Set.of(Path.of("src/main/java")),
+                JavaDiscoverer.findSourceRoots(List.of(Path.of("src/main/java/a/A.java"))));
+    }
+
+    private Path createFile(final String relativePath) throws IOException {
+        final Path file = this.root.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, "");
+    }
+}
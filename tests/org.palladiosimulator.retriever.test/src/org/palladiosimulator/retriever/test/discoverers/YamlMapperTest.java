@@ -0,0 +1,73 @@
+package org.palladiosimulator.retriever.test.discoverers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.discoverers.wrappers.YamlMapper;
+
+public class YamlMapperTest {
+
+    private static final List<Object> DOCUMENTS = List.of(
+            Map.of("spring", Map.of("application", Map.of("name", "first"), "profiles", "default")),
+            Map.of("spring",
+                    Map.of("application", Map.of("name", "second"), "cloud",
+                            Map.of("gateway", Map.of("routes", List.of("a", "b")))),
+                    "server", Map.of("port", 8080)));
+
+    @Test
+    void earlierDocumentsWin() {
+        final YamlMapper mapper = new YamlMapper(DOCUMENTS);
+
+        assertEquals(Optional.of("first"), mapper.apply("spring.application.name"));
+        assertEquals(Optional.of(8080), mapper.apply("server.port"));
+        assertEquals(Optional.of(List.of("a", "b")), mapper.apply("spring.cloud.gateway.routes"));
+        assertTrue(mapper.apply("spring.application.port")
+            .isEmpty());
+    }
+
+    @Test
+    void lookupsMatchSegmentWiseTraversal() {
+        final YamlMapper mapper = new YamlMapper(DOCUMENTS);
+
+        for (final String key : List.of("spring", "spring.application", "spring.application.name.", "spring..name",
+                "server.port.number", "", ".", "unknown")) {
+            assertEquals(traverse(key), mapper.apply(key), key);
+        }
+    }
+
+    @Test
+    void prefixQueriesReturnAllKeysBelow() {
+        final YamlMapper mapper = new YamlMapper(DOCUMENTS);
+
+        final SortedMap<String, Object> cloudKeys = mapper.getAll("spring.cloud");
+
+        assertEquals(List.of("spring.cloud.gateway", "spring.cloud.gateway.routes"), List.copyOf(cloudKeys.keySet()));
+        assertTrue(mapper.getAll("spring.cloud.gateway.routes")
+            .isEmpty());
+    }
+
+    /**
+     * The lookup YamlMapper used to perform on every call.
+     */
+    private static Optional<Object> traverse(final String fullKey) {
+        for (final Object document : DOCUMENTS) {
+            Object currentNode = document;
+            for (final String segment : fullKey.split("\\.")) {
+                currentNode = currentNode instanceof final Map<?, ?> map ? map.get(segment) : null;
+                if (currentNode == null) {
+                    break;
+                }
+            }
+            if (currentNode != null) {
+                return Optional.of(currentNode);
+            }
+        }
+        return Optional.empty();
+    }
+}
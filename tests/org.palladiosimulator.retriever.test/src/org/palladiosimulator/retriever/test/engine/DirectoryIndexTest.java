@@ -0,0 +1,97 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.extraction.engine.DirectoryIndex;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+public class DirectoryIndexTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void filesAreFoundByDirectoryAndName() {
+        final Path resources = Path.of("service", "src", "main", "resources");
+        final Path applicationYml = resources.resolve("application.yml");
+        final Path applicationYaml = resources.resolve("application.yaml");
+        final Path bootstrapYml = resources.resolve("bootstrap.yml");
+        final Path nestedYml = resources.resolve("shared")
+            .resolve("application.yml");
+
+        final DirectoryIndex index = new DirectoryIndex(
+                List.of(applicationYml, bootstrapYml, nestedYml, applicationYaml), null);
+
+        assertEquals(List.of(bootstrapYml), index.findFiles(resources, Set.of("bootstrap.yaml", "bootstrap.yml")));
+        assertEquals(List.of(applicationYml, applicationYaml),
+                index.findFiles(resources, Set.of("application.yaml", "application.yml")));
+        assertTrue(index.findFiles(resources.getParent(), Set.of("application.yml"))
+            .isEmpty());
+        assertTrue(index.contains(resources, "bootstrap.yml"));
+        assertFalse(index.contains(resources, "shared"));
+    }
+
+    @Test
+    void projectRootsAreFoundInTheIndexedFolder() throws IOException {
+        Files.writeString(this.root.resolve("pom.xml"), "<project/>");
+        final Path module = Files.createDirectories(this.root.resolve("module"));
+        Files.writeString(module.resolve("build.gradle"), "");
+        final Path sources = Files.createDirectories(module.resolve("src/main/java"));
+        final Path source = Files.writeString(sources.resolve("A.java"), "class A {}");
+
+        final DirectoryIndex index = new DirectoryIndex(FileIndex.build(this.root)
+            .entries()
+            .map(FileIndex.Entry::path)
+            .toList(), this.root);
+
+        assertEquals(module, index.findProjectRoot(source, "pom.xml", "build.gradle"));
+        assertEquals(this.root, index.findProjectRoot(source, "pom.xml"));
+        assertEquals(this.root, index.findProjectRoot(module.resolve("build.gradle"), "pom.xml"));
+        assertNull(index.findProjectRoot(null, "pom.xml"));
+    }
+
+    @Test
+    void projectRootsOutsideOfTheIndexedFolderAreFoundOnTheFileSystem() throws IOException {
+        Files.writeString(this.root.resolve("pom.xml"), "<project/>");
+        final Path module = Files.createDirectories(this.root.resolve("module"));
+        final Path source = Files.writeString(module.resolve("A.java"), "class A {}");
+
+        final DirectoryIndex index = new DirectoryIndex(List.of(source), module);
+
+        assertEquals(this.root, index.findProjectRoot(source, "pom.xml"));
+        assertNull(index.findProjectRoot(source, "does-not-exist.xml"));
+    }
+
+    @Test
+    void sharedIndexFollowsTheFileIndex() throws IOException {
+        final Path first = Files.createDirectories(this.root.resolve("first"));
+        Files.writeString(first.resolve("pom.xml"), "<project/>");
+        final Path second = Files.createDirectories(this.root.resolve("second"));
+        Files.writeString(second.resolve("build.gradle"), "");
+        final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+
+        FileIndex.of(blackboard, first);
+        final DirectoryIndex firstIndex = DirectoryIndex.of(blackboard, FileIndex.PARTITION_ID);
+        assertSame(firstIndex, DirectoryIndex.of(blackboard, FileIndex.PARTITION_ID));
+        assertTrue(firstIndex.contains(first, "pom.xml"));
+
+        FileIndex.of(blackboard, second);
+        final DirectoryIndex secondIndex = DirectoryIndex.of(blackboard, FileIndex.PARTITION_ID);
+        assertFalse(secondIndex.contains(first, "pom.xml"));
+        assertTrue(secondIndex.contains(second, "build.gradle"));
+    }
+}
@@ -0,0 +1,68 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.palladiosimulator.retriever.extraction.engine.DockerParser;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+
+public class DockerParserTest {
+
+    private static final Path PROJECT = Path.of("res", "DockerProject");
+
+    @Test
+    void componentsAreMappedToTheServicesContainingTheirFiles() throws IOException {
+        final FileIndex fileIndex = FileIndex.build(PROJECT);
+        final PCMDetector pcmDetector = new PCMDetector();
+        final Map<String, CompilationUnit> units = new HashMap<>();
+        for (final Path path : fileIndex.find(".java")
+            .collect(Collectors.toList())) {
+            final CompilationUnit unit = parse(Files.readString(path));
+            units.put(((AbstractTypeDeclaration) unit.types()
+                .get(0)).getName()
+                    .getIdentifier(),
+                    unit);
+            pcmDetector.detectComponent(new CompUnitOrName(unit));
+        }
+
+        final Map<String, Set<CompilationUnit>> mapping = new DockerParser(fileIndex, pcmDetector).getMapping();
+
+        // InvoiceStore is declared in Invoices.java, so its file is not found by name.
+        assertEquals(Map.of("gateway", Set.of(units.get("Gateway")), "billing", Set.of(units.get("BillingService"))),
+                mapping);
+    }
+
+    @Test
+    void projectsWithoutComposeFileHaveNoServices() {
+        final DockerParser parser = new DockerParser(PROJECT.resolve("shared"), new PCMDetector());
+
+        assertTrue(parser.getMapping()
+            .isEmpty());
+    }
+
+    private static CompilationUnit parse(final String source) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
+                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+}
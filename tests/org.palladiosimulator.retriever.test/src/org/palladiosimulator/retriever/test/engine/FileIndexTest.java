@@ -0,0 +1,60 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.extraction.engine.FileIndex;
+
+public class FileIndexTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void filesAreBucketedByExtension() throws IOException {
+        final Path pom = Files.writeString(this.root.resolve("pom.xml"), "<project/>");
+        final Path config = Files.createDirectories(this.root.resolve("src/main/resources"))
+            .resolve("application.YML");
+        Files.writeString(config, "a: b");
+        final Path yaml = Files.writeString(this.root.resolve("docker-compose.yaml"), "services:");
+
+        final FileIndex index = FileIndex.build(this.root);
+
+        assertEquals(3, index.size());
+        assertEquals(Set.of(pom), index.find(".xml")
+            .collect(Collectors.toSet()));
+        assertEquals(Set.of(config, yaml), index.find(".yml", ".yaml")
+            .collect(Collectors.toSet()));
+        assertTrue(index.find(".json")
+            .findAny()
+            .isEmpty());
+    }
+
+    @Test
+    void filesAreFoundByName() throws IOException {
+        final Path modulePom = Files.createDirectories(this.root.resolve("module"))
+            .resolve("pom.xml");
+        Files.writeString(modulePom, "<project/>");
+
+        final FileIndex index = FileIndex.build(this.root);
+
+        assertEquals(List.of(modulePom), index.findByName("pom.xml"));
+        assertTrue(index.findByName("build.gradle")
+            .isEmpty());
+        assertTrue(index.contains(modulePom));
+        assertFalse(index.contains(this.root.resolve("pom.xml")));
+        assertEquals(10, index.getEntry(modulePom)
+            .get()
+            .size());
+    }
+}
@@ -0,0 +1,72 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.LazyPartition;
+
+public class LazyPartitionTest {
+
+    @Test
+    void valuesAreLoadedOnceOnDemand() {
+        final Path first = Path.of("first.json");
+        final Path second = Path.of("second.json");
+        final AtomicInteger loads = new AtomicInteger();
+        final LazyPartition<String> partition = new LazyPartition<>(List.of(first, second), path -> {
+            loads.incrementAndGet();
+            return Optional.of(path.toString());
+        });
+
+        assertEquals(2, partition.size());
+        assertTrue(partition.containsKey(first));
+        assertEquals(0, loads.get());
+
+        assertEquals("first.json", partition.get(first));
+        assertEquals("first.json", partition.get(first));
+        assertEquals(1, loads.get());
+        assertTrue(partition.isLoaded(first));
+        assertFalse(partition.isLoaded(second));
+    }
+
+    @Test
+    void unparsableFilesAreRemovedOnceLoaded() {
+        final Path broken = Path.of("broken.sql");
+        final LazyPartition<String> partition = new LazyPartition<>(List.of(broken), path -> Optional.empty());
+
+        assertTrue(partition.containsKey(broken));
+        assertNull(partition.get(broken));
+        assertNull(partition.get(Path.of("unknown.sql")));
+
+        assertFalse(partition.containsKey(broken));
+        assertTrue(partition.keySet()
+            .isEmpty());
+        assertEquals(0, partition.size());
+    }
+
+    @Test
+    void iterationSkipsUnparsableFiles() {
+        final Path first = Path.of("first.sql");
+        final Path broken = Path.of("broken.sql");
+        final Path last = Path.of("last.sql");
+        final LazyPartition<String> partition = new LazyPartition<>(List.of(first, broken, last),
+                path -> path.equals(broken) ? Optional.empty() : Optional.of(path.toString()),
+                LazyPartition.Retention.SOFT);
+
+        assertEquals(List.of("first.sql", "last.sql"), new ArrayList<>(partition.values()));
+        assertEquals(Map.of(first, "first.sql", last, "last.sql"), new HashMap<>(partition));
+        assertEquals(List.of(first, last), new ArrayList<>(partition.keySet()));
+        assertEquals(2, partition.entrySet()
+            .size());
+    }
+}
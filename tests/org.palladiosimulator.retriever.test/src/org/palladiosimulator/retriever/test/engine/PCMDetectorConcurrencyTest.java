@@ -0,0 +1,245 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.palladiosimulator.retriever.extraction.commonalities.ComponentBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.ProvisionsBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.RequirementsBuilder;
+import org.palladiosimulator.retriever.extraction.engine.NameConverter;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+
+public class PCMDetectorConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final List<String> HOSTS = List.of("gateway", "users", "orders");
+    private static final List<String> SEGMENTS = List.of("api", "users", "{id}", "orders");
+    private static final List<String> TYPES = List.of("UserService", "OrderService", "Repository");
+    private static final List<String> METHODS = List.of("find", "save", "delete");
+    // Interfaces detected weakly. They are only ever detected as entire interfaces, so that the
+    // outcome does not depend on the order of detection.
+    private static final String WEAK_SOURCE = """
+            class Holder {
+                WeakUsers users;
+                WeakOrders orders;
+            }
+
+            interface WeakUsers {
+            }
+
+            interface WeakOrders {
+            }
+            """;
+
+    @Test
+    void concurrentDetectionMatchesSequentialDetection() throws Exception {
+        final Random random = new Random(42);
+        final CompilationUnit weakUnit = parse("Holder", WEAK_SOURCE);
+        final List<FieldDeclaration> weakFields = List.of(((TypeDeclaration) weakUnit.types()
+            .get(0)).getFields());
+        final List<OperationInterface> weakInterfaces = new ArrayList<>();
+        for (final FieldDeclaration field : weakFields) {
+            final ITypeBinding binding = field.getType()
+                .resolveBinding();
+            weakInterfaces
+                .add(new EntireInterface(binding, new JavaInterfaceName(NameConverter.toPCMIdentifier(binding))));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 20; round++) {
+                final List<Consumer<PCMDetector>> detections = randomDetections(random, 2000, weakFields);
+
+                final PCMDetector sequentialDetector = new PCMDetector();
+                detections.forEach(detection -> detection.accept(sequentialDetector));
+
+                final PCMDetector concurrentDetector = new PCMDetector();
+                final List<Future<?>> futures = new ArrayList<>();
+                for (final Consumer<PCMDetector> detection : detections) {
+                    futures.add(executor.submit(() -> detection.accept(concurrentDetector)));
+                }
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+
+                assertEquals(summarize(sequentialDetector, weakInterfaces),
+                        summarize(concurrentDetector, weakInterfaces), "round " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void detectingComponentKeepsItsDetections() {
+        final CompUnitOrName unit = new CompUnitOrName("Unit");
+        final PCMDetector detector = new PCMDetector();
+        detector.detectRequiredInterface(unit, new JavaInterfaceName("UserService"));
+        detector.detectProvidedOperation(unit, null, new JavaOperationName("OrderService", "find"));
+
+        detector.detectComponent(unit);
+
+        final ComponentBuilder component = detector.getComponentBuilders()
+            .get(unit);
+        assertEquals(Set.of("UserService"), toStrings(component.requirements()
+            .toList()));
+        assertEquals(1, component.provisions()
+            .toList()
+            .size());
+    }
+
+    private static List<Consumer<PCMDetector>> randomDetections(final Random random, final int count,
+            final List<FieldDeclaration> weakFields) {
+        final List<Consumer<PCMDetector>> detections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final CompUnitOrName unit = new CompUnitOrName("Unit" + random.nextInt(50));
+            final String host = HOSTS.get(random.nextInt(HOSTS.size()));
+            final String path = randomPath(random);
+            final String type = TYPES.get(random.nextInt(TYPES.size()));
+            final String method = METHODS.get(random.nextInt(METHODS.size()));
+            final String composite = "Composite" + random.nextInt(3);
+            final FieldDeclaration weakField = weakFields.get(random.nextInt(weakFields.size()));
+            final ITypeBinding weakType = weakField.getType()
+                .resolveBinding();
+            switch (random.nextInt(10)) {
+            case 0:
+                detections.add(detector -> detector.detectRequiredInterface(unit, new RESTName(host, path)));
+                break;
+            case 1:
+                detections.add(detector -> detector.detectRequiredInterface(unit, new JavaInterfaceName(type)));
+                break;
+            case 2:
+                detections.add(detector -> detector.detectProvidedOperation(unit, null,
+                        new RESTOperationName(host, path, HTTPMethod.GET)));
+                break;
+            case 3:
+                detections.add(
+                        detector -> detector.detectProvidedOperation(unit, null, new JavaOperationName(type, method)));
+                break;
+            case 4:
+                detections.add(detector -> detector.detectPartOfComposite(unit, composite));
+                break;
+            case 6:
+                detections.add(detector -> detector.detectProvidedInterfaceWeakly(unit, weakType));
+                break;
+            case 7:
+                detections.add(detector -> detector.detectRequiredInterfaceWeakly(unit, weakField));
+                break;
+            case 8:
+                detections.add(detector -> detector.detectRequiredInterface(unit, weakField));
+                break;
+            case 9:
+                detections.add(detector -> detector.detectComponent(unit));
+                break;
+            default:
+                if (random.nextBoolean()) {
+                    detections.add(
+                            detector -> detector.detectCompositeRequiredInterface(unit, new RESTName(host, path)));
+                } else {
+                    detections.add(detector -> detector.detectCompositeProvidedOperation(unit, null,
+                            new JavaOperationName(type, method)));
+                }
+            }
+        }
+        return detections;
+    }
+
+    private static String randomPath(final Random random) {
+        final StringBuilder path = new StringBuilder("/");
+        final int depth = random.nextInt(4);
+        for (int i = 0; i < depth; i++) {
+            path.append(SEGMENTS.get(random.nextInt(SEGMENTS.size())));
+            if (i + 1 < depth) {
+                path.append('/');
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * Summarizes the detected interfaces and parts independently of the order they were detected in.
+     * The weakly detected interfaces are those of the given ones that are contained but not part of
+     * the strong interfaces.
+     */
+    private static Map<String, Set<String>> summarize(final PCMDetector detector,
+            final List<OperationInterface> weakInterfaces) {
+        final Map<String, Set<String>> summary = new TreeMap<>();
+        for (final Map.Entry<CompUnitOrName, ComponentBuilder> entry : detector.getComponentBuilders()
+            .entrySet()) {
+            final ProvisionsBuilder provisions = entry.getValue()
+                .provisions();
+            final RequirementsBuilder requirements = entry.getValue()
+                .requirements();
+            summary.put(entry.getKey() + " provides", toStrings(provisions.toList()));
+            summary.put(entry.getKey() + " requires", toStrings(requirements.toList()));
+            summary.put(entry.getKey() + " weakly provides", toStrings(weakInterfaces.stream()
+                .filter(iface -> provisions.containsRelated(iface) && !provisions.toList()
+                    .contains(iface))
+                .collect(Collectors.toList())));
+            summary.put(entry.getKey() + " weakly requires", toStrings(weakInterfaces.stream()
+                .filter(iface -> requirements.containsRelated(iface) && !requirements.toList()
+                    .contains(iface))
+                .collect(Collectors.toList())));
+        }
+        detector.getCompositeBuilders()
+            .forEach((name, composite) -> summary.put(name + " parts", composite.getParts()
+                .stream()
+                .map(part -> part.identifier()
+                    .toString())
+                .collect(Collectors.toSet())));
+        summary.put("composite provides", toStrings(detector.getCompositeProvisions()
+            .toList()));
+        summary.put("composite requires", toStrings(detector.getCompositeRequirements()
+            .toList()));
+        return summary;
+    }
+
+    private static Set<String> toStrings(final List<OperationInterface> interfaces) {
+        final Set<String> strings = new HashSet<>();
+        for (final OperationInterface iface : interfaces) {
+            strings.add(iface.toString());
+        }
+        return Collections.unmodifiableSet(strings);
+    }
+
+    private static CompilationUnit parse(final String typeName, final String source) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
+                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
+        parser.setEnvironment(new String[0], new String[0], null, true);
+        parser.setUnitName(typeName + ".java");
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+}
@@ -0,0 +1,88 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.PathPrefixTrie;
+
+public class PathPrefixTrieTest {
+
+    @Test
+    void longestAncestorWins() {
+        final PathPrefixTrie<String> hostnames = new PathPrefixTrie<>();
+        hostnames.put(Path.of("/project"), "gateway");
+        hostnames.put(Path.of("/project/services/billing"), "billing");
+        hostnames.put(null, "unknown");
+
+        assertEquals(Optional.of("billing"),
+                hostnames.longestPrefixValue(Path.of("/project/services/billing/src/Main.java")));
+        assertEquals(Optional.of("billing"), hostnames.longestPrefixValue(Path.of("/project/services/billing")));
+        assertEquals(Optional.of("gateway"),
+                hostnames.longestPrefixValue(Path.of("/project/services/billing-api/src/Main.java")));
+        assertTrue(hostnames.longestPrefixValue(Path.of("/other/Main.java"))
+            .isEmpty());
+        assertTrue(hostnames.longestPrefixValue(Path.of("project/Main.java"))
+            .isEmpty());
+        assertEquals(3, hostnames.size());
+    }
+
+    @Test
+    void removedPathsAreNoLongerAncestors() {
+        final PathPrefixTrie<String> hostnames = new PathPrefixTrie<>(
+                Map.of(Path.of("/project"), "gateway", Path.of("/project/billing"), "billing"));
+
+        hostnames.remove(Path.of("/project/billing"));
+
+        assertEquals(Optional.of("gateway"), hostnames.longestPrefixValue(Path.of("/project/billing/Main.java")));
+    }
+
+    @Test
+    void lookupsMatchLinearScan() {
+        final Map<Path, String> hostnames = new HashMap<>();
+        for (final String path : List.of("/a", "/a/b", "/a/b/c/d", "/a/x", "b", "b/c")) {
+            hostnames.put(Path.of(path), path);
+        }
+        final PathPrefixTrie<String> trie = PathPrefixTrie.of(hostnames);
+
+        for (final String path : List.of("/a/b/c", "/a/b/c/d/e", "/a/xy", "/a", "/", "b/c/d", "c", "/b")) {
+            assertEquals(scan(hostnames, Path.of(path)), trie.longestPrefixValue(Path.of(path)), path);
+        }
+    }
+
+    @Test
+    void entriesAreSnapshots() {
+        final PathPrefixTrie<String> trie = new PathPrefixTrie<>();
+        trie.put(Path.of("/a"), "a");
+        final Set<Map.Entry<Path, String>> entries = trie.entrySet();
+
+        trie.put(Path.of("/b"), "b");
+        trie.remove(Path.of("/a"));
+
+        assertEquals(Set.of(Map.entry(Path.of("/a"), "a")), entries);
+        assertEquals(Set.of(Path.of("/b")), trie.keySet());
+    }
+
+    /**
+     * The lookup the rules used to perform for every file.
+     */
+    private static Optional<String> scan(final Map<Path, String> hostnames, final Path path) {
+        String hostname = null;
+        Path mostSpecificPath = null;
+        for (final Path hostnamePath : hostnames.keySet()) {
+            if (path.startsWith(hostnamePath)
+                    && (mostSpecificPath == null || hostnamePath.startsWith(mostSpecificPath))) {
+                hostname = hostnames.get(hostnamePath);
+                mostSpecificPath = hostnamePath;
+            }
+        }
+        return Optional.ofNullable(hostname);
+    }
+}
@@ -0,0 +1,112 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.RuleHelper;
+import org.palladiosimulator.retriever.extraction.engine.SupertypeIndex;
+
+public class SupertypeIndexTest {
+
+    private static final String USERS = """
+            class Users extends java.util.AbstractList<String> {
+                public String get(int index) {
+                    return null;
+                }
+
+                public int size() {
+                    return 0;
+                }
+            }
+            """;
+    private static final String NAMES = """
+            class Names implements Comparable<Names> {
+                public int compareTo(Names other) {
+                    return 0;
+                }
+            }
+            """;
+
+    @Test
+    void supertypesAreMatchedBySimpleAndQualifiedName() {
+        final CompilationUnit users = parse("Users", USERS);
+        final CompilationUnit names = parse("Names", NAMES);
+
+        assertTrue(RuleHelper.isImplementingOrExtending(users, "Users"));
+        assertTrue(RuleHelper.isImplementingOrExtending(users, "AbstractList"));
+        assertTrue(RuleHelper.isImplementingOrExtending(users, "List"));
+        assertTrue(RuleHelper.isImplementingOrExtending(users, "List<String>"));
+        assertTrue(RuleHelper.isImplementingOrExtending(users, "java.util.Collection"));
+        assertFalse(RuleHelper.isImplementingOrExtending(users, "Comparable"));
+        assertFalse(RuleHelper.isImplementingOrExtending(users, "Lis"));
+
+        assertTrue(RuleHelper.isImplementingOrExtending(names, "Comparable"));
+        assertTrue(RuleHelper.isImplementingOrExtending(names, "Comparable<Names>"));
+        assertFalse(RuleHelper.isImplementingOrExtending(names, "List"));
+    }
+
+    @Test
+    void supertypeNamesAreComputedOncePerBinding() {
+        final ITypeBinding binding = ((AbstractTypeDeclaration) parse("Users", USERS).types()
+            .get(0)).resolveBinding();
+
+        assertSame(SupertypeIndex.getSupertypeNames(binding), SupertypeIndex.getSupertypeNames(binding));
+        assertTrue(RuleHelper.isImplementingOrExtending(binding, "Iterable"));
+    }
+
+    @Test
+    void cyclicHierarchiesAreWalkedOnce() {
+        final CompilationUnit cycle = parse("Cycle", """
+                class Cycle extends Loop {
+                }
+
+                class Loop extends Cycle {
+                }
+                """);
+
+        assertTrue(RuleHelper.isImplementingOrExtending(cycle, "Cycle"));
+        assertFalse(RuleHelper.isImplementingOrExtending(cycle, "Runnable"));
+    }
+
+    @Test
+    void unitsAreFoundByTheirSupertypes() {
+        final Path usersPath = Path.of("src", "Users.java");
+        final Path namesPath = Path.of("src", "Names.java");
+        final SupertypeIndex index = new SupertypeIndex(
+                Map.of(usersPath, parse("Users", USERS), namesPath, parse("Names", NAMES)));
+
+        assertEquals(List.of(usersPath), index.findImplementingOrExtending("Collection"));
+        assertEquals(List.of(usersPath), index.findImplementingOrExtending("java.util.List"));
+        assertEquals(List.of(namesPath), index.findImplementingOrExtending("Comparable"));
+        assertEquals(Set.of(usersPath, namesPath), Set.copyOf(index.findImplementingOrExtending("Object")));
+        assertTrue(index.findImplementingOrExtending("Runnable")
+            .isEmpty());
+    }
+
+    private static CompilationUnit parse(final String typeName, final String source) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
+                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
+        parser.setEnvironment(new String[0], new String[0], null, true);
+        parser.setUnitName(typeName + ".java");
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+}
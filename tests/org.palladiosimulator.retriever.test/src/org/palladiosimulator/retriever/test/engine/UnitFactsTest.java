@@ -0,0 +1,144 @@
+package org.palladiosimulator.retriever.test.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.engine.RuleHelper;
+import org.palladiosimulator.retriever.extraction.engine.UnitFacts;
+
+public class UnitFactsTest {
+
+    private static final String SOURCE = """
+            @RestController
+            @RequestMapping(path = "/users", produces = "application/json")
+            public class UserController {
+                private UserService service;
+                private int count;
+
+                @Autowired
+                public UserController(UserService service) {
+                    this.service = service;
+                }
+
+                public User find(String id) {
+                    return service.find(id);
+                }
+            }
+
+            @Path("/orders")
+            enum Status {
+                OPEN, CLOSED;
+
+                private String label;
+
+                String label() {
+                    return label;
+                }
+            }
+            """;
+
+    @Test
+    void factsAreCollectedOncePerUnit() {
+        final CompilationUnit unit = parse(SOURCE);
+
+        final UnitFacts facts = UnitFacts.of(unit);
+
+        assertSame(facts, UnitFacts.of(unit));
+        assertEquals(facts.getMethods(), RuleHelper.getMethods(unit));
+        assertEquals(facts.getFields(), RuleHelper.getFields(unit));
+        assertEquals(facts.getConstructors(), RuleHelper.getConstructors(unit));
+    }
+
+    @Test
+    void returnedMembersMayBeModified() {
+        final CompilationUnit unit = parse(SOURCE);
+
+        final List<MethodDeclaration> methods = RuleHelper.getMethods(unit);
+        methods.clear();
+        RuleHelper.getFields(unit)
+            .clear();
+        RuleHelper.getConstructors(unit)
+            .clear();
+
+        assertNotSame(methods, RuleHelper.getMethods(unit));
+        assertEquals(3, RuleHelper.getMethods(unit)
+            .size());
+        assertEquals(3, RuleHelper.getFields(unit)
+            .size());
+        assertEquals(1, RuleHelper.getConstructors(unit)
+            .size());
+    }
+
+    @Test
+    void membersOfAllTypesAreCollected() {
+        final CompilationUnit unit = parse(SOURCE);
+
+        assertEquals(List.of("UserController", "find", "label"), RuleHelper.getMethods(unit)
+            .stream()
+            .map(x -> x.getName()
+                .getIdentifier())
+            .toList());
+        assertEquals(List.of("service", "count", "label"), RuleHelper.getFields(unit)
+            .stream()
+            .map(UnitFactsTest::getFieldName)
+            .toList());
+        final List<MethodDeclaration> constructors = RuleHelper.getConstructors(unit);
+        assertEquals(1, constructors.size());
+        assertTrue(RuleHelper.isMethodAnnotatedWithName(constructors.get(0), "Autowired"));
+    }
+
+    @Test
+    void annotationsAreAnsweredFromTheFacts() {
+        final CompilationUnit unit = parse(SOURCE);
+
+        assertTrue(RuleHelper.isUnitAnnotatedWithName(unit, "Controller", "RestController"));
+        assertTrue(RuleHelper.isUnitAnnotatedWithName(unit, "Path"));
+        assertFalse(RuleHelper.isUnitAnnotatedWithName(unit, "Controller"));
+
+        assertEquals("/users", RuleHelper.getUnitAnnotationStringValue(unit, "RequestMapping", "path"));
+        assertEquals("application/json",
+                RuleHelper.getUnitAnnotationStringValue(unit, "RequestMapping", "produces"));
+        assertEquals("/orders", RuleHelper.getUnitAnnotationStringValue(unit, "Path"));
+        assertNull(RuleHelper.getUnitAnnotationStringValue(unit, "RestController"));
+    }
+
+    @Test
+    void supertypesAreUnknownWithoutBindings() {
+        final CompilationUnit unit = parse("public class Repository extends Base implements Iterable<User> {}");
+
+        assertFalse(RuleHelper.isImplementingOrExtending(unit, "Base"));
+        assertFalse(RuleHelper.isImplementingOrExtending(unit, "Iterable"));
+    }
+
+    private static CompilationUnit parse(final String source) {
+        final ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        final String latestJavaVersion = JavaCore.latestSupportedJavaVersion();
+        parser.setCompilerOptions(Map.of(JavaCore.COMPILER_SOURCE, latestJavaVersion, JavaCore.COMPILER_COMPLIANCE,
+                latestJavaVersion, JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, latestJavaVersion));
+        parser.setSource(source.toCharArray());
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    private static String getFieldName(final FieldDeclaration field) {
+        final VariableDeclarationFragment fragment = (VariableDeclarationFragment) field.fragments()
+            .get(0);
+        return fragment.getName()
+            .getIdentifier();
+    }
+}
@@ -39,6 +39,8 @@ import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
 import org.palladiosimulator.pcm.system.System;
 import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
 import org.palladiosimulator.retriever.core.workflow.RetrieverJob;
+import org.palladiosimulator.retriever.extraction.commonalities.PCMDetectionResult;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
 import org.palladiosimulator.retriever.services.RetrieverConfiguration;
 import org.palladiosimulator.retriever.services.Rule;
 import org.palladiosimulator.retriever.services.ServiceConfiguration;
@@ -412,6 +414,18 @@ abstract class CaseStudyTest {
         this.testSeff();
     }
 
+    @Test
+    void detectionResultMatchesTwoPassConstruction() {
+        final PCMDetector detector = (PCMDetector) this.getBlackboard()
+            .getPCMDetector();
+        final PCMDetectionResult result = detector.getResult();
+        final TwoPassDetectionResult expected = new TwoPassDetectionResult(detector);
+
+        assertEquals(expected.components, result.getComponents());
+        assertEquals(expected.composites, result.getCompositeComponents());
+        assertEquals(expected.operationInterfaces, result.getOperationInterfaces());
+    }
+
     @Test
     @Disabled("There are no tests for systems yet")
     void system() {
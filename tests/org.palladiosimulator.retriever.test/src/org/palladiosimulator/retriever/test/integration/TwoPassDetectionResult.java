@@ -0,0 +1,160 @@
+package org.palladiosimulator.retriever.test.integration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.palladiosimulator.retriever.extraction.commonalities.Component;
+import org.palladiosimulator.retriever.extraction.commonalities.ComponentBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.Composite;
+import org.palladiosimulator.retriever.extraction.commonalities.CompositeBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.PCMDetectionResult;
+import org.palladiosimulator.retriever.extraction.commonalities.ProvisionsBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.RequirementsBuilder;
+import org.palladiosimulator.retriever.extraction.engine.MapMerger;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+
+/**
+ * The original construction of a {@link PCMDetectionResult}, which builds all components and
+ * composites twice: once to collect the visible provisions and once more with them. Used as a
+ * reference for the single-pass construction.
+ */
+final class TwoPassDetectionResult {
+    final Set<Component> components;
+    final Set<Composite> composites;
+    final Map<OperationInterface, Set<Operation>> operationInterfaces;
+
+    TwoPassDetectionResult(final PCMDetector detector) {
+        final Map<CompUnitOrName, ComponentBuilder> components = detector.getComponentBuilders();
+        final Map<String, CompositeBuilder> composites = detector.getCompositeBuilders();
+        final ProvisionsBuilder compositeProvisions = detector.getCompositeProvisions();
+        final RequirementsBuilder compositeRequirements = detector.getCompositeRequirements();
+
+        final Set<Component> temporaryComponents = createComponents(components, compositeProvisions,
+                compositeRequirements, Set.of());
+        final Set<Component> connectedComponents = collectConnectedComponents(temporaryComponents, composites);
+        final Set<Composite> temporaryComposites = createCompositeComponents(connectedComponents, composites,
+                compositeProvisions, compositeRequirements, Set.of());
+        final Set<OperationInterface> visibleProvisions = collectVisibleProvisions(connectedComponents,
+                temporaryComposites);
+
+        final Map<CompUnitOrName, ComponentBuilder> connectedComponentBuilders = connectedComponents.stream()
+            .map(Component::identifier)
+            .map(components::get)
+            .collect(Collectors.toMap(ComponentBuilder::identifier, x -> x));
+
+        this.components = createComponents(connectedComponentBuilders, compositeProvisions, compositeRequirements,
+                visibleProvisions);
+        this.composites = createCompositeComponents(this.components, composites, compositeProvisions,
+                compositeRequirements, visibleProvisions);
+        this.operationInterfaces = this.createOperationInterfaces();
+    }
+
+    private static Set<Component> collectConnectedComponents(final Set<Component> temporaryComponents,
+            final Map<String, CompositeBuilder> composites) {
+        final CompositeBuilder metaCompositeBuilder = new CompositeBuilder("Meta Composite");
+        for (final CompositeBuilder composite : composites.values()) {
+            for (final ComponentBuilder part : composite.getParts()) {
+                metaCompositeBuilder.addPart(part);
+            }
+        }
+        final Composite metaComposite = metaCompositeBuilder.construct(temporaryComponents,
+                new RequirementsBuilder().create(Set.of(), Set.of()), new ProvisionsBuilder().create(Set.of()),
+                Set.of());
+        final Set<Component> connectedComponents = metaComposite.parts();
+        if (connectedComponents.isEmpty()) {
+            return temporaryComponents;
+        } else {
+            return connectedComponents;
+        }
+    }
+
+    private static Set<Component> createComponents(final Map<CompUnitOrName, ComponentBuilder> components,
+            final ProvisionsBuilder compositeProvisions, final RequirementsBuilder compositeRequirements,
+            final Set<OperationInterface> visibleProvisions) {
+        final List<OperationInterface> allDependencies = new LinkedList<>();
+        allDependencies.addAll(compositeRequirements.toList());
+        allDependencies.addAll(compositeProvisions.toList());
+
+        return components.values()
+            .stream()
+            .map(x -> x.create(allDependencies, visibleProvisions))
+            .collect(Collectors.toSet());
+    }
+
+    private static Set<Composite> createCompositeComponents(final Set<Component> freeComponents,
+            final Map<String, CompositeBuilder> composites, final ProvisionsBuilder compositeProvisions,
+            final RequirementsBuilder compositeRequirements, final Set<OperationInterface> visibleProvisions) {
+        final List<Composite> allComposites = composites.values()
+            .stream()
+            .map(x -> x.construct(freeComponents, compositeRequirements.create(visibleProvisions, visibleProvisions),
+                    compositeProvisions.create(visibleProvisions), visibleProvisions))
+            .collect(Collectors.toList());
+
+        final Set<Composite> redundantComposites = new HashSet<>();
+        final Set<Composite> remainingComposites = new HashSet<>();
+        for (int i = 0; i < allComposites.size(); ++i) {
+            final Composite subject = allComposites.get(i);
+            final long subsetCount = allComposites.subList(i + 1, allComposites.size())
+                .stream()
+                .filter(x -> !redundantComposites.contains(x))
+                .filter(x -> subject.isSubsetOf(x) || x.isSubsetOf(subject))
+                .count();
+            if (subsetCount > 0) {
+                redundantComposites.add(subject);
+            } else {
+                remainingComposites.add(subject);
+            }
+        }
+        return remainingComposites;
+    }
+
+    private static Set<OperationInterface> collectVisibleProvisions(final Set<Component> components,
+            final Set<Composite> composites) {
+        final Set<OperationInterface> provisions = new HashSet<>();
+        composites.stream()
+            .flatMap(x -> x.provisions()
+                .stream())
+            .forEach(provisions::add);
+        final Set<Component> containedComponents = composites.stream()
+            .flatMap(x -> x.parts()
+                .stream())
+            .collect(Collectors.toSet());
+        components.stream()
+            .filter(x -> !containedComponents.contains(x))
+            .flatMap(x -> x.provisions()
+                .getGrouped()
+                .keySet()
+                .stream())
+            .forEach(provisions::add);
+        return provisions;
+    }
+
+    private Map<OperationInterface, Set<Operation>> createOperationInterfaces() {
+        final List<Map<OperationInterface, Set<Operation>>> constructedOperationInterfaces = new ArrayList<>();
+        this.components.stream()
+            .map(x -> x.provisions()
+                .simplified())
+            .forEach(constructedOperationInterfaces::add);
+        this.components.stream()
+            .map(x -> x.requirements()
+                .simplified())
+            .forEach(constructedOperationInterfaces::add);
+        this.composites.stream()
+            .flatMap(x -> x.provisions()
+                .stream())
+            .forEach(x -> constructedOperationInterfaces.add(x.simplified()));
+        this.composites.stream()
+            .flatMap(x -> x.requirements()
+                .stream())
+            .forEach(x -> constructedOperationInterfaces.add(x.simplified()));
+        return MapMerger.merge(constructedOperationInterfaces);
+    }
+}
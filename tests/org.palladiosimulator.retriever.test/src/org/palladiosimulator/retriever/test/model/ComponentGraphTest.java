@@ -0,0 +1,72 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
+import org.palladiosimulator.retriever.extraction.commonalities.Component;
+import org.palladiosimulator.retriever.extraction.commonalities.ComponentBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.ComponentGraph;
+import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+
+public class ComponentGraphTest {
+
+    private static Component component(final String name, final OperationInterface provision,
+            final OperationInterface requirement) {
+        final ComponentBuilder builder = new ComponentBuilder(new CompUnitOrName(name));
+        if (provision != null) {
+            builder.provisions()
+                .add(provision);
+        }
+        if (requirement != null) {
+            builder.requirements()
+                .add(requirement);
+        }
+        return builder.create(List.of(), List.of());
+    }
+
+    @Test
+    void findsProvidersOfParts() {
+        final OperationInterface method = new Operation(null, new JavaOperationName("Interface", "method"));
+        final OperationInterface iface = new EntireInterface(new JavaInterfaceName("Interface"));
+        final OperationInterface otherIface = new EntireInterface(new JavaInterfaceName("OtherInterface"));
+
+        final Component methodProvider = component("MethodProvider", method, null);
+        final Component interfaceProvider = component("InterfaceProvider", iface, null);
+        final Component otherProvider = component("OtherProvider", otherIface, null);
+        final ComponentGraph graph = new ComponentGraph(List.of(methodProvider, interfaceProvider, otherProvider));
+
+        final Set<Component> providers = graph.findProviders(iface);
+        assertEquals(2, providers.size());
+        assertTrue(providers.contains(methodProvider));
+        assertTrue(providers.contains(interfaceProvider));
+
+        assertEquals(Set.of(methodProvider), graph.findProviders(method));
+        assertTrue(graph.findRequirers(iface)
+            .isEmpty());
+    }
+
+    @Test
+    void findsRequirersOfREST() {
+        final OperationInterface api = new EntireInterface(new RESTName("host", "/api"));
+        final OperationInterface users = new EntireInterface(new RESTName("host", "/api/users"));
+        final OperationInterface other = new EntireInterface(new RESTName("other", "/api/users"));
+
+        final Component usersRequirer = component("UsersRequirer", null, users);
+        final Component otherRequirer = component("OtherRequirer", null, other);
+        final ComponentGraph graph = new ComponentGraph(List.of(usersRequirer, otherRequirer));
+
+        assertEquals(Set.of(usersRequirer), graph.findRequirers(api));
+        assertTrue(graph.findRequirers(new EntireInterface(new RESTName("host", "/api/orders")))
+            .isEmpty());
+    }
+}
@@ -3,7 +3,11 @@ package org.palladiosimulator.retriever.test.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.palladiosimulator.retriever.extraction.commonalities.CompUnitOrName;
@@ -212,4 +216,57 @@ public class CompositeTest {
         assertEquals(1, result.provisions()
             .size(), "this composite should have exactly one provision");
     }
+
+    @Test
+    void constructionKeepsProvisionGroupsOfParts() {
+        final OperationInterface iface = new EntireInterface(new JavaInterfaceName("Interface"));
+        final OperationInterface methodA = new Operation(null, new JavaOperationName("Interface", "methodA"));
+        final OperationInterface methodB = new Operation(null, new JavaOperationName("Interface", "methodB"));
+        final OperationInterface methodC = new Operation(null, new JavaOperationName("Interface", "methodC"));
+
+        final ComponentBuilder providerBuilderA = new ComponentBuilder(new CompUnitOrName("Provider A"));
+        providerBuilderA.provisions()
+            .add(methodA);
+        providerBuilderA.provisions()
+            .add(methodB);
+        final Component providerA = providerBuilderA.create(List.of(), List.of());
+
+        final ComponentBuilder providerBuilderB = new ComponentBuilder(new CompUnitOrName("Provider B"));
+        providerBuilderB.provisions()
+            .add(methodA);
+        providerBuilderB.provisions()
+            .add(methodC);
+        final Component providerB = providerBuilderB.create(List.of(), List.of());
+
+        final ComponentBuilder requirerBuilder = new ComponentBuilder(new CompUnitOrName("Requirer"));
+        requirerBuilder.requirements()
+            .add(iface);
+
+        final CompositeBuilder compositeBuilder = new CompositeBuilder("CompositeComponent");
+        compositeBuilder.addPart(requirerBuilder);
+
+        final Map<OperationInterface, List<OperationInterface>> groupsA = copyGroups(providerA);
+        final Map<OperationInterface, List<OperationInterface>> groupsB = copyGroups(providerB);
+        assertEquals(Set.of(iface), groupsA.keySet(), "the provisions of provider A should share a group");
+        assertEquals(Set.of(iface), groupsB.keySet(), "the provisions of provider B should share a group");
+
+        final Composite result = compositeBuilder.construct(List.of(providerA, providerB),
+                new Requirements(List.of(), List.of(), List.of()), new Provisions(List.of(), List.of()), List.of());
+
+        assertEquals(3, result.parts()
+            .size(), "both providers should be part of the composite");
+        // Both groups have the same root. Merging them for the composite must not add to either.
+        assertEquals(groupsA, providerA.provisions()
+            .getGrouped(), "the groups of provider A should be unchanged");
+        assertEquals(groupsB, providerB.provisions()
+            .getGrouped(), "the groups of provider B should be unchanged");
+    }
+
+    private static Map<OperationInterface, List<OperationInterface>> copyGroups(final Component component) {
+        final Map<OperationInterface, List<OperationInterface>> groups = new HashMap<>();
+        component.provisions()
+            .getGrouped()
+            .forEach((root, members) -> groups.put(root, new ArrayList<>(members)));
+        return groups;
+    }
 }
@@ -0,0 +1,156 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.DependencyUtils;
+import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.Name;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationUnion;
+
+public class DependencyGroupingTest {
+
+    private static final List<String> HOSTS = List.of("gateway", "users");
+    private static final List<String> SEGMENTS = List.of("api", "users", "{id}", "orders");
+    private static final List<String> TYPES = List.of("UserService", "OrderService", "Repository");
+    private static final List<String> METHODS = List.of("find", "save", "delete");
+
+    @Test
+    void groupsMatchPairwiseGrouping() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final List<OperationInterface> allDependencies = new ArrayList<>();
+            final int size = 1 + random.nextInt(30);
+            for (int i = 0; i < size; i++) {
+                allDependencies.add(randomInterface(random));
+            }
+            final List<OperationInterface> dependencies = new ArrayList<>();
+            for (final OperationInterface dependency : allDependencies) {
+                if (random.nextInt(3) > 0) {
+                    dependencies.add(dependency);
+                }
+            }
+
+            assertEquals(groupPairwise(dependencies, allDependencies),
+                    DependencyUtils.groupDependencies(dependencies, allDependencies), "round " + round);
+        }
+    }
+
+    private static OperationInterface randomInterface(final Random random) {
+        final String host = HOSTS.get(random.nextInt(HOSTS.size()));
+        final StringBuilder path = new StringBuilder("/");
+        final int depth = random.nextInt(4);
+        for (int i = 0; i < depth; i++) {
+            path.append(SEGMENTS.get(random.nextInt(SEGMENTS.size())));
+            if (i + 1 < depth) {
+                path.append('/');
+            }
+        }
+        final String type = TYPES.get(random.nextInt(TYPES.size()));
+        switch (random.nextInt(5)) {
+        case 0:
+            return new EntireInterface(new RESTName(host, path.toString()));
+        case 1:
+            final HTTPMethod method = HTTPMethod.values()[random.nextInt(HTTPMethod.values().length)];
+            return new Operation(null, new RESTOperationName(host, path.toString(), method));
+        case 2:
+            return new RESTOperationUnion(new RESTOperationName(host, path.toString(), HTTPMethod.GET,
+                    HTTPMethod.POST));
+        case 3:
+            return new EntireInterface(new JavaInterfaceName(type));
+        default:
+            return new Operation(null, new JavaOperationName(type, METHODS.get(random.nextInt(METHODS.size()))));
+        }
+    }
+
+    /**
+     * The grouping DependencyUtils used to perform, comparing every dependency to every root.
+     */
+    private static Map<OperationInterface, List<OperationInterface>> groupPairwise(
+            final Collection<OperationInterface> dependencies, final Collection<OperationInterface> allDependencies) {
+        final Map<OperationInterface, List<OperationInterface>> groupedDependencies = new HashMap<>();
+        final Queue<OperationInterface> sortedDependencies = new PriorityQueue<>(dependencies);
+
+        while (!sortedDependencies.isEmpty()) {
+            final OperationInterface grouplessDependency = sortedDependencies.poll();
+            boolean isRoot = true;
+            for (final OperationInterface rootInterface : groupedDependencies.keySet()) {
+                if (grouplessDependency.isPartOf(rootInterface)) {
+                    groupedDependencies.get(rootInterface)
+                        .add(grouplessDependency);
+                    isRoot = false;
+                    break;
+                }
+            }
+            if (isRoot) {
+                for (final OperationInterface rootInterface : groupedDependencies.keySet()) {
+                    final Optional<String> commonName = grouplessDependency.getName()
+                        .getCommonInterface(rootInterface.getName());
+                    boolean containsOtherDependency = false;
+
+                    if (!commonName.isPresent()) {
+                        continue;
+                    }
+
+                    final Name commonInterfaceName = rootInterface.getName()
+                        .createName(commonName.get());
+                    OperationInterface commonInterface;
+
+                    if (commonInterfaceName instanceof RESTOperationName restName) {
+                        commonInterface = new RESTOperationUnion(restName);
+                    } else {
+                        commonInterface = new EntireInterface(commonInterfaceName);
+                    }
+
+                    for (final OperationInterface dependency : allDependencies) {
+                        if (!dependencies.contains(dependency)) {
+                            containsOtherDependency |= dependency.isPartOf(commonInterface)
+                                    && !commonInterface.isPartOf(dependency);
+                        }
+                    }
+
+                    if (!containsOtherDependency) {
+                        final Set<OperationInterface> interfaces = new HashSet<>(
+                                groupedDependencies.remove(rootInterface));
+                        if (!(commonInterface instanceof RESTOperationUnion)) {
+                            interfaces.add(commonInterface);
+                        }
+                        if (!(rootInterface instanceof RESTOperationUnion)) {
+                            interfaces.add(rootInterface);
+                        }
+                        interfaces.add(grouplessDependency);
+                        groupedDependencies.put(commonInterface, new ArrayList<>(interfaces));
+                        isRoot = false;
+                        break;
+                    }
+                }
+            }
+            if (isRoot) {
+                groupedDependencies.put(grouplessDependency, new LinkedList<>());
+                groupedDependencies.get(grouplessDependency)
+                    .add(grouplessDependency);
+            }
+        }
+        return groupedDependencies;
+    }
+}
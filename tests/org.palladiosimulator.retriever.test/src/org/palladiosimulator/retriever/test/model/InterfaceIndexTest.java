@@ -0,0 +1,74 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod;
+import org.palladiosimulator.retriever.extraction.commonalities.InterfaceIndex;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationUnion;
+
+public class InterfaceIndexTest {
+
+    private static final List<OperationInterface> INTERFACES = List.of(
+            new EntireInterface(new JavaInterfaceName("Interface")),
+            new EntireInterface(new JavaInterfaceName("OtherInterface")),
+            new Operation(null, new JavaOperationName("Interface", "method")),
+            new Operation(null, new JavaOperationName("Interface", "otherMethod")),
+            new Operation(null, new JavaOperationName("OtherInterface", "method")),
+            new EntireInterface(new RESTName("host", "/")), new EntireInterface(new RESTName("host", "/users")),
+            new EntireInterface(new RESTName("host", "/users/{id}")),
+            new EntireInterface(new RESTName("other-host", "/users")),
+            new Operation(null, new RESTOperationName("host", "/users", HTTPMethod.GET)),
+            new Operation(null, new RESTOperationName("host", "/users", HTTPMethod.GET, HTTPMethod.POST)),
+            new Operation(null, new RESTOperationName("host", "/users/{id}")),
+            new Operation(null, new RESTOperationName("host", "/orders", HTTPMethod.DELETE)),
+            new RESTOperationUnion(new RESTOperationName("host", "/users", HTTPMethod.PUT)));
+
+    @Test
+    void candidatesContainAllRelatedInterfaces() {
+        final InterfaceIndex<OperationInterface> index = new InterfaceIndex<>();
+        for (final OperationInterface iface : INTERFACES) {
+            index.put(iface, iface);
+        }
+
+        for (final OperationInterface query : INTERFACES) {
+            final Set<OperationInterface> descendants = index.findDescendants(query);
+            final Set<OperationInterface> ancestors = index.findAncestors(query);
+            for (final OperationInterface iface : INTERFACES) {
+                if (iface.isPartOf(query)) {
+                    assertTrue(descendants.contains(iface), iface + " is part of " + query);
+                }
+                if (query.isPartOf(iface) || query.equals(iface)) {
+                    assertTrue(ancestors.contains(iface), query + " is part of " + iface);
+                }
+            }
+        }
+    }
+
+    @Test
+    void candidatesAreSelective() {
+        final InterfaceIndex<OperationInterface> index = new InterfaceIndex<>();
+        for (final OperationInterface iface : INTERFACES) {
+            index.put(iface, iface);
+        }
+
+        final Set<String> related = index.findRelated(new Operation(null, new JavaOperationName("Interface", "method")))
+            .stream()
+            .map(Object::toString)
+            .collect(Collectors.toSet());
+
+        assertEquals(Set.of("Interface", "Interface#method"), related);
+    }
+}
@@ -1,11 +1,17 @@
 package org.palladiosimulator.retriever.test.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
 import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.Name;
 import org.palladiosimulator.retriever.extraction.commonalities.Operation;
 import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
 import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName;
@@ -55,4 +61,25 @@ public class PathTest {
         assertTrue(specificOperation.isPartOf(generalOperation));
         assertFalse(generalOperation.isPartOf(specificOperation));
     }
+
+    @Test
+    void structuralComparisonMatchesStringComparison() {
+        final List<Name> names = List.of(new RESTName("test-host", "/"), new RESTName("test-host", "/some"),
+                new RESTName("test-host", "/some/path"), new RESTName("test-host", "/some/pa"),
+                new RESTName("other-host", "/some/path"), new RESTName("", "/test-host/some"),
+                new RESTName("test/host", "/some"),
+                new RESTOperationName("test-host", "/some/path"),
+                new RESTOperationName("test-host", "/some/path", HTTPMethod.GET),
+                new RESTOperationName("test-host", "/some/path", HTTPMethod.GET, HTTPMethod.POST),
+                new RESTOperationName("test-host", "/some/path", HTTPMethod.WILDCARD),
+                new RESTOperationName("test-host", "/some", HTTPMethod.DELETE), new JavaInterfaceName("Interface"),
+                new JavaInterfaceName("Interface#method"), new JavaOperationName("Interface", "method"),
+                new JavaOperationName("Interface", "otherMethod"));
+
+        for (final Name name : names) {
+            for (final Name other : names) {
+                assertEquals(name.isPartOf(other.toString()), name.isPartOf(other), name + " part of " + other);
+            }
+        }
+    }
 }
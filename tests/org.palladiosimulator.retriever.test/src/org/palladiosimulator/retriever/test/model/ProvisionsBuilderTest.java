@@ -0,0 +1,91 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.ProvisionsBuilder;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+import org.palladiosimulator.retriever.extraction.commonalities.RequirementsBuilder;
+
+public class ProvisionsBuilderTest {
+
+    @Test
+    void keepsFirstInsertionOrderWithoutDuplicates() {
+        final OperationInterface first = new EntireInterface(new JavaInterfaceName("First"));
+        final OperationInterface second = new EntireInterface(new RESTName("host", "/second"));
+
+        final ProvisionsBuilder builder = new ProvisionsBuilder();
+        builder.add(first, second);
+        builder.add(first);
+
+        assertEquals(List.of(first, second), builder.toList());
+    }
+
+    @Test
+    void listIsReusedUntilModified() {
+        final OperationInterface first = new EntireInterface(new JavaInterfaceName("First"));
+        final OperationInterface second = new EntireInterface(new JavaInterfaceName("Second"));
+
+        final ProvisionsBuilder builder = new ProvisionsBuilder();
+        builder.add(first);
+        final List<OperationInterface> list = builder.toList();
+        assertSame(list, builder.toList());
+        builder.add(first);
+        assertSame(list, builder.toList());
+
+        builder.addWeakly(second);
+        builder.strengthenIfPresent(second);
+
+        assertEquals(List.of(first, second), builder.toList());
+        assertEquals(List.of(first), list);
+    }
+
+    @Test
+    void strengthensOnlyRelatedProvisions() {
+        final OperationInterface iface = new EntireInterface(new JavaInterfaceName("Interface"));
+        final OperationInterface method = new Operation(null, new JavaOperationName("Interface", "method"));
+        final OperationInterface otherMethod = new Operation(null, new JavaOperationName("Interface", "other"));
+        final OperationInterface unrelated = new EntireInterface(new JavaInterfaceName("Unrelated"));
+
+        final ProvisionsBuilder builder = new ProvisionsBuilder();
+        builder.addWeakly(unrelated);
+        builder.addWeakly(otherMethod);
+        builder.addWeakly(method);
+        assertTrue(builder.toList()
+            .isEmpty());
+        assertTrue(builder.containsRelated(iface));
+
+        builder.strengthenIfPresent(iface);
+
+        assertEquals(List.of(otherMethod, method), builder.toList());
+        assertTrue(builder.containsRelated(unrelated));
+        assertFalse(builder.containsRelated(new EntireInterface(new JavaInterfaceName("Missing"))));
+    }
+
+    @Test
+    void strengthensOnlyEqualRequirements() {
+        final OperationInterface iface = new EntireInterface(new JavaInterfaceName("Interface"));
+        final OperationInterface method = new Operation(null, new JavaOperationName("Interface", "method"));
+
+        final RequirementsBuilder builder = new RequirementsBuilder();
+        builder.addWeakly(method);
+        builder.strengthenIfPresent(iface);
+        assertTrue(builder.toList()
+            .isEmpty());
+        assertTrue(builder.containsRelated(iface));
+
+        builder.strengthenIfPresent(method);
+        builder.add(method);
+        assertEquals(List.of(method), builder.toList());
+    }
+}
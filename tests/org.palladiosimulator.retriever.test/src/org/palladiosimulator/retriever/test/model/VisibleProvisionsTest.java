@@ -0,0 +1,113 @@
+package org.palladiosimulator.retriever.test.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.retriever.extraction.commonalities.EntireInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.HTTPMethod;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaInterfaceName;
+import org.palladiosimulator.retriever.extraction.commonalities.JavaOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.Operation;
+import org.palladiosimulator.retriever.extraction.commonalities.OperationInterface;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationName;
+import org.palladiosimulator.retriever.extraction.commonalities.RESTOperationUnion;
+import org.palladiosimulator.retriever.extraction.commonalities.VisibleProvisions;
+
+public class VisibleProvisionsTest {
+
+    private static final List<String> HOSTS = List.of("gateway", "users");
+    private static final List<String> SEGMENTS = List.of("api", "users", "{id}", "orders");
+    private static final List<String> TYPES = List.of("UserService", "OrderService", "Repository");
+    private static final List<String> METHODS = List.of("find", "save", "delete");
+
+    @Test
+    void keepsUnrelatedRequirements() {
+        final OperationInterface requirement = new EntireInterface(new JavaInterfaceName("Required"));
+        final VisibleProvisions visibleProvisions = new VisibleProvisions(
+                List.of(new EntireInterface(new JavaInterfaceName("Provided"))));
+
+        assertSame(requirement, visibleProvisions.generalize(requirement));
+        assertSame(requirement, VisibleProvisions.NONE.generalize(requirement));
+    }
+
+    @Test
+    void generalizesToContainingProvision() {
+        final OperationInterface requirement = new Operation(null, new JavaOperationName("Provided", "method"));
+        final OperationInterface provision = new EntireInterface(new JavaInterfaceName("Provided"));
+        final VisibleProvisions visibleProvisions = new VisibleProvisions(List.of(provision));
+
+        assertEquals(provision, visibleProvisions.generalize(requirement));
+    }
+
+    @Test
+    void generalizationMatchesLinearScan() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final Set<OperationInterface> provisions = new HashSet<>();
+            final int size = random.nextInt(20);
+            for (int i = 0; i < size; i++) {
+                provisions.add(randomInterface(random));
+            }
+            final VisibleProvisions visibleProvisions = new VisibleProvisions(provisions);
+
+            for (int i = 0; i < 20; i++) {
+                final OperationInterface requirement = randomInterface(random);
+                assertEquals(generalizeLinearly(requirement, provisions), visibleProvisions.generalize(requirement),
+                        "round " + round);
+            }
+        }
+    }
+
+    private static OperationInterface randomInterface(final Random random) {
+        final String host = HOSTS.get(random.nextInt(HOSTS.size()));
+        final StringBuilder path = new StringBuilder("/");
+        final int depth = random.nextInt(4);
+        for (int i = 0; i < depth; i++) {
+            path.append(SEGMENTS.get(random.nextInt(SEGMENTS.size())));
+            if (i + 1 < depth) {
+                path.append('/');
+            }
+        }
+        final String type = TYPES.get(random.nextInt(TYPES.size()));
+        switch (random.nextInt(5)) {
+        case 0:
+            return new EntireInterface(new RESTName(host, path.toString()));
+        case 1:
+            final HTTPMethod method = HTTPMethod.values()[random.nextInt(HTTPMethod.values().length)];
+            return new Operation(null, new RESTOperationName(host, path.toString(), method));
+        case 2:
+            return new RESTOperationUnion(new RESTOperationName(host, path.toString(), HTTPMethod.GET,
+                    HTTPMethod.POST));
+        case 3:
+            return new EntireInterface(new JavaInterfaceName(type));
+        default:
+            return new Operation(null, new JavaOperationName(type, METHODS.get(random.nextInt(METHODS.size()))));
+        }
+    }
+
+    /**
+     * The generalization Requirements used to perform, scanning all sorted provisions.
+     */
+    private static OperationInterface generalizeLinearly(final OperationInterface requirement,
+            final Collection<OperationInterface> visibleProvisions) {
+        final List<OperationInterface> sortedProvisions = new ArrayList<>(visibleProvisions);
+        Collections.sort(sortedProvisions);
+        Collections.reverse(sortedProvisions);
+        for (final OperationInterface provision : sortedProvisions) {
+            if (requirement.isPartOf(provision)) {
+                return provision;
+            }
+        }
+        return requirement;
+    }
+}
@@ -0,0 +1,97 @@
+package org.palladiosimulator.retriever.test.rules;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.extraction.rules.ProjectSpecificRulesProxy;
+
+public class ProjectSpecificRulesProxyTest {
+
+    private static final String RULES_SOURCE = """
+            package org.palladiosimulator.retriever.extraction.rules
+
+            class ProjectSpecificRules {
+            }
+            """;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void unchangedRulesAreNotCompiledAgain() throws IOException {
+        final File rules = this.createRules(RULES_SOURCE);
+        final File output = this.createDirectory("rules-xtend-gen");
+        final List<File> pluginJars = List.of(this.createJar("plugin_1.0.0.jar"));
+        final ProjectSpecificRulesProxy proxy = new ProjectSpecificRulesProxy();
+
+        assertTrue(proxy.compileIfChanged(rules, output, pluginJars));
+        assertFalse(proxy.compileIfChanged(rules, output, pluginJars));
+    }
+
+    @Test
+    void changedSourcesOrPluginsAreCompiled() throws IOException {
+        final File rules = this.createRules(RULES_SOURCE);
+        final File output = this.createDirectory("rules-xtend-gen");
+        final File pluginJar = this.createJar("plugin_1.0.0.jar");
+        final ProjectSpecificRulesProxy proxy = new ProjectSpecificRulesProxy();
+        proxy.compileIfChanged(rules, output, List.of(pluginJar));
+
+        this.createRules(RULES_SOURCE + "\n");
+        assertTrue(proxy.compileIfChanged(rules, output, List.of(pluginJar)));
+
+        // A jar replaced without a version change keeps its name.
+        Files.setLastModifiedTime(pluginJar.toPath(), FileTime.fromMillis(0));
+        assertTrue(proxy.compileIfChanged(rules, output, List.of(pluginJar)));
+
+        assertTrue(proxy.compileIfChanged(rules, output, List.of(pluginJar, this.createJar("other_1.0.0.jar"))));
+    }
+
+    @Test
+    void failedCompilationsAreNotReused() throws IOException {
+        final File rules = this.createRules(RULES_SOURCE);
+        final File output = this.createDirectory("rules-xtend-gen");
+        final List<File> pluginJars = List.of(this.createJar("plugin_1.0.0.jar"));
+        final ProjectSpecificRulesProxy proxy = new ProjectSpecificRulesProxy();
+        proxy.compileIfChanged(rules, output, pluginJars);
+
+        this.createRules("class ProjectSpecificRules {");
+        assertThrows(IllegalArgumentException.class, () -> proxy.compileIfChanged(rules, output, pluginJars));
+        assertThrows(IllegalArgumentException.class, () -> proxy.compileIfChanged(rules, output, pluginJars));
+
+        this.createRules(RULES_SOURCE);
+        assertTrue(proxy.compileIfChanged(rules, output, pluginJars));
+    }
+
+    private File createRules(final String source) throws IOException {
+        final Path file = this.root.resolve("rules/org/palladiosimulator/retriever/extraction/rules")
+            .resolve("ProjectSpecificRules.xtend");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+        return this.root.resolve("rules")
+            .toFile();
+    }
+
+    private File createDirectory(final String name) throws IOException {
+        return Files.createDirectories(this.root.resolve(name))
+            .toFile();
+    }
+
+    private File createJar(final String name) throws IOException {
+        final Path jar = this.root.resolve(name);
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            // An empty jar is enough to be put on the classpath.
+        }
+        return jar.toFile();
+    }
+}
@@ -0,0 +1,319 @@
+package org.palladiosimulator.retriever.test.workflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.retriever.core.configuration.RetrieverConfigurationImpl;
+import org.palladiosimulator.retriever.core.workflow.RetrieverJob;
+import org.palladiosimulator.retriever.core.workflow.RuleDispatchJob;
+import org.palladiosimulator.retriever.extraction.engine.PCMDetector;
+import org.palladiosimulator.retriever.extraction.engine.SelectiveRule;
+import org.palladiosimulator.retriever.extraction.engine.SequentialRule;
+import org.palladiosimulator.retriever.services.Discoverer;
+import org.palladiosimulator.retriever.services.RetrieverConfiguration;
+import org.palladiosimulator.retriever.services.Rule;
+import org.palladiosimulator.retriever.services.ServiceConfiguration;
+import org.palladiosimulator.retriever.services.blackboard.RetrieverBlackboard;
+
+import de.uka.ipd.sdq.workflow.jobs.AbstractBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+public class RuleDispatchJobTest {
+
+    private static final String PARTITION_ID = "org.palladiosimulator.retriever.test.partition";
+    private static final String CONFIG_PARTITION_ID = "org.palladiosimulator.retriever.test.partition.config";
+    private static final int THREADS = 4;
+
+    private final RetrieverConfiguration configuration = new RetrieverConfigurationImpl();
+    private final RetrieverBlackboard blackboard = new RetrieverBlackboard(new PCMDetector());
+    private final Map<Path, Object> files = new HashMap<>();
+    private final Map<Path, Object> configFiles = new HashMap<>();
+    private final List<Path> paths = new ArrayList<>();
+    private final List<Path> configPaths = new ArrayList<>();
+
+    @TempDir
+    Path root;
+
+    public RuleDispatchJobTest() {
+        for (int i = 0; i < 200; i++) {
+            final Path path = Path.of("project", "File" + i + ".java");
+            this.paths.add(path);
+            this.files.put(path, i);
+        }
+        for (int i = 0; i < 5; i++) {
+            final Path path = Path.of("project", "config" + i + ".yml");
+            this.paths.add(path);
+            this.configPaths.add(path);
+            this.configFiles.put(path, i);
+        }
+        this.blackboard.putDiscoveredFiles(PARTITION_ID, this.files);
+        this.blackboard.putDiscoveredFiles(CONFIG_PARTITION_ID, this.configFiles);
+    }
+
+    @Test
+    void everyPathIsVisitedOnceByEveryRule() throws JobFailedException, UserCanceledException {
+        final RecordingRule perFileRule = new RecordingRule("perfile");
+        final RecordingRule sequentialRule = new SequentialRecordingRule("sequential");
+        final JobProvidingRule jobProvidingRule = new JobProvidingRule("job");
+
+        new RuleDispatchJob(this.configuration, this.blackboard, List.of(perFileRule, sequentialRule, jobProvidingRule),
+                THREADS).execute(new NullProgressMonitor());
+
+        for (final RecordingRule rule : List.of(perFileRule, sequentialRule)) {
+            assertEquals(Set.copyOf(this.paths), rule.visits.keySet(), rule.getID());
+            assertTrue(rule.visits.values()
+                .stream()
+                .allMatch(visits -> visits.get() == 1), rule.getID());
+        }
+        assertEquals(1, sequentialRule.maxConcurrentVisits.get());
+        assertEquals(1, jobProvidingRule.executions.get());
+        assertTrue(jobProvidingRule.visits.isEmpty());
+    }
+
+    @Test
+    void stepsRunOneAfterAnother() throws JobFailedException, UserCanceledException {
+        final RecordingRule firstStepRule = new RecordingRule("first") {
+            @Override
+            public Set<String> getDependentServices() {
+                return Set.of("org.palladiosimulator.retriever.test.rules.second");
+            }
+        };
+        final AtomicInteger incompleteVisits = new AtomicInteger();
+        final RecordingRule secondStepRule = new RecordingRule("second") {
+            @Override
+            public void processRules(final RetrieverBlackboard blackboard, final Path path) {
+                if (firstStepRule.visits.size() < RuleDispatchJobTest.this.paths.size()) {
+                    incompleteVisits.incrementAndGet();
+                }
+                super.processRules(blackboard, path);
+            }
+        };
+
+        // Both steps are dispatched to threads, so nothing but the steps orders the rules.
+        this.createRetrieverJob(THREADS, secondStepRule, firstStepRule)
+            .execute(new NullProgressMonitor());
+
+        assertEquals(this.paths.size(), firstStepRule.visits.size());
+        assertEquals(this.paths.size(), secondStepRule.visits.size());
+        assertEquals(0, incompleteVisits.get());
+    }
+
+    @Test
+    void selectiveRulesOnlyVisitTheirPartitions() throws JobFailedException, UserCanceledException {
+        final RecordingRule rule = new SelectiveRecordingRule("partition", Set.of(CONFIG_PARTITION_ID), Set.of());
+
+        new RuleDispatchJob(this.configuration, this.blackboard, List.of(rule), THREADS)
+            .execute(new NullProgressMonitor());
+
+        assertEquals(Set.copyOf(this.configPaths), rule.visits.keySet());
+    }
+
+    @Test
+    void selectiveRulesOnlyVisitTheirFileNames() throws JobFailedException, UserCanceledException {
+        final RecordingRule rule = new SelectiveRecordingRule("filename", Set.of(), Set.of("File1?.java"));
+
+        new RuleDispatchJob(this.configuration, this.blackboard, List.of(rule), THREADS)
+            .execute(new NullProgressMonitor());
+
+        assertEquals(Set.copyOf(this.paths.subList(10, 20)), rule.visits.keySet());
+    }
+
+    @Test
+    void selectiveRulesWithoutDeclarationsVisitEveryPath() throws JobFailedException, UserCanceledException {
+        final RecordingRule rule = new SelectiveRecordingRule("everything", Set.of(), Set.of());
+
+        new RuleDispatchJob(this.configuration, this.blackboard, List.of(rule), THREADS)
+            .execute(new NullProgressMonitor());
+
+        assertEquals(Set.copyOf(this.paths), rule.visits.keySet());
+    }
+
+    @Test
+    void selectiveRulesOnlyVisitTheirPathsWithoutDispatching() throws JobFailedException, UserCanceledException {
+        final RecordingRule partitionRule = new SelectiveRecordingRule("partition", Set.of(CONFIG_PARTITION_ID),
+                Set.of());
+        final RecordingRule fileNameRule = new SelectiveRecordingRule("filename", Set.of(), Set.of("File1?.java"));
+
+        this.createRetrieverJob(0, partitionRule, fileNameRule)
+            .execute(new NullProgressMonitor());
+
+        assertEquals(Set.copyOf(this.configPaths), partitionRule.visits.keySet());
+        assertEquals(Set.copyOf(this.paths.subList(10, 20)), fileNameRule.visits.keySet());
+    }
+
+    private RetrieverJob createRetrieverJob(final int ruleThreads, final Rule... rules) {
+        final RetrieverConfiguration retrieverConfig = new RetrieverConfigurationImpl();
+        retrieverConfig.setInputFolder(URI.createFileURI(this.root.toString()));
+        retrieverConfig.setOutputFolder(URI.createFileURI(this.root.resolve("out")
+            .toString()));
+        retrieverConfig.getConfig(Discoverer.class)
+            .select(new PathDiscoverer());
+        final ServiceConfiguration<Rule> ruleConfig = retrieverConfig.getConfig(Rule.class);
+        for (final Rule rule : rules) {
+            ruleConfig.select(rule);
+        }
+        return new RetrieverJob(retrieverConfig, ruleThreads);
+    }
+
+    private class PathDiscoverer implements Discoverer {
+        @Override
+        public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
+                final RetrieverBlackboard blackboard) {
+            return new AbstractBlackboardInteractingJob<>() {
+                @Override
+                public void execute(final IProgressMonitor monitor) {
+                    blackboard.putDiscoveredFiles(PARTITION_ID, RuleDispatchJobTest.this.files);
+                    blackboard.putDiscoveredFiles(CONFIG_PARTITION_ID, RuleDispatchJobTest.this.configFiles);
+                }
+
+                @Override
+                public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+                }
+
+                @Override
+                public String getName() {
+                    return "Path Discoverer Job";
+                }
+            };
+        }
+
+        @Override
+        public Set<String> getConfigurationKeys() {
+            return Set.of();
+        }
+
+        @Override
+        public String getID() {
+            return "org.palladiosimulator.retriever.test.discoverers.path";
+        }
+
+        @Override
+        public String getName() {
+            return "Path Discoverer";
+        }
+    }
+
+    private static class RecordingRule implements Rule {
+        private final String id;
+        final Map<Path, AtomicInteger> visits = new ConcurrentHashMap<>();
+        final AtomicInteger maxConcurrentVisits = new AtomicInteger();
+        private final AtomicInteger concurrentVisits = new AtomicInteger();
+
+        RecordingRule(final String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void processRules(final RetrieverBlackboard blackboard, final Path path) {
+            this.maxConcurrentVisits.accumulateAndGet(this.concurrentVisits.incrementAndGet(), Math::max);
+            this.visits.computeIfAbsent(path, x -> new AtomicInteger())
+                .incrementAndGet();
+            // Gives other tasks the chance to interleave.
+            Thread.yield();
+            this.concurrentVisits.decrementAndGet();
+        }
+
+        @Override
+        public boolean isBuildRule() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getConfigurationKeys() {
+            return Set.of();
+        }
+
+        @Override
+        public String getID() {
+            return "org.palladiosimulator.retriever.test.rules." + this.id;
+        }
+
+        @Override
+        public String getName() {
+            return this.id;
+        }
+
+        @Override
+        public Set<String> getRequiredServices() {
+            return Set.of();
+        }
+
+        @Override
+        public Set<String> getDependentServices() {
+            return Set.of();
+        }
+    }
+
+    private static class SequentialRecordingRule extends RecordingRule implements SequentialRule {
+        SequentialRecordingRule(final String id) {
+            super(id);
+        }
+    }
+
+    private static class SelectiveRecordingRule extends RecordingRule implements SelectiveRule {
+        private final Set<String> handledPartitions;
+        private final Set<String> handledFileNames;
+
+        SelectiveRecordingRule(final String id, final Set<String> handledPartitions,
+                final Set<String> handledFileNames) {
+            super(id);
+            this.handledPartitions = handledPartitions;
+            this.handledFileNames = handledFileNames;
+        }
+
+        @Override
+        public Set<String> getHandledPartitions() {
+            return this.handledPartitions;
+        }
+
+        @Override
+        public Set<String> getHandledFileNames() {
+            return this.handledFileNames;
+        }
+    }
+
+    private static class JobProvidingRule extends RecordingRule {
+        final AtomicInteger executions = new AtomicInteger();
+
+        JobProvidingRule(final String id) {
+            super(id);
+        }
+
+        @Override
+        public IBlackboardInteractingJob<RetrieverBlackboard> create(final RetrieverConfiguration configuration,
+                final RetrieverBlackboard blackboard) {
+            return new AbstractBlackboardInteractingJob<>() {
+                @Override
+                public void execute(final IProgressMonitor monitor) {
+                    JobProvidingRule.this.executions.incrementAndGet();
+                }
+
+                @Override
+                public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+                }
+
+                @Override
+                public String getName() {
+                    return "Job Providing Rule Job";
+                }
+            };
+        }
+    }
+}